@@ -0,0 +1,49 @@
+package com.example.hotelproject.benchmarks;
+
+import com.example.hotelproject.HotelProjectApplication;
+import com.example.hotelproject.config.CatalogProperties;
+import com.example.hotelproject.service.CatalogGenerator;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Application context without web server over an in-memory H2 database with the Liquibase schema
+ * and a catalog of the requested number of hotels from {@link CatalogGenerator} (default seed and skew).
+ */
+public final class BenchmarkCatalog implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkCatalog(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static BenchmarkCatalog start(int hotels) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HotelProjectApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + hotels + ";DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+                        "hotel.pool-sizing.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=WARN")
+                .run();
+        CatalogProperties spec = new CatalogProperties();
+        spec.setHotels(hotels);
+        context.getBean(CatalogGenerator.class).generate(spec);
+        context.getBean(JdbcTemplate.class).execute("ANALYZE");
+        return new BenchmarkCatalog(context);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
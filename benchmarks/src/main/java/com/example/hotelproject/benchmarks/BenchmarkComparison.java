@@ -0,0 +1,86 @@
+package com.example.hotelproject.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (-rf json) benchmark by benchmark and exits with status 1
+ * when any benchmark got slower than the threshold, so a build can fail on a regression.
+ * Usage: BenchmarkComparison baseline.json current.json [thresholdPercent]
+ */
+public final class BenchmarkComparison {
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> current = read(Path.of(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : new TreeMap<>(current).entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "-", after.value(), "new");
+                continue;
+            }
+            // Для пропускной способности хуже - меньше, для времени - больше
+            double change = (after.value() - before.value()) / before.value() * 100;
+            double slowdown = after.higherIsBetter() ? -change : change;
+            boolean regression = slowdown > threshold;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.value(), after.value(), change,
+                    regression ? "  REGRESSION" : "");
+        }
+
+        System.out.printf("%d of %d benchmarks regressed by more than %.1f%%%n", regressions, current.size(), threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Ключ - имя бенчмарка с параметрами, например HotelSearchBenchmark.searchByCity{catalogSize=10000}
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replace("com.example.hotelproject.benchmarks.", ""));
+            JsonNode params = result.path("params");
+            if (!params.isMissingNode() && !params.isEmpty()) {
+                key.append(new TreeMap<>(toMap(params)));
+            }
+            JsonNode metric = result.path("primaryMetric");
+            scores.put(key.toString(), new Score(metric.path("score").asDouble(), "thrpt".equals(result.path("mode").asText())));
+        }
+        return scores;
+    }
+
+    private static Map<String, String> toMap(JsonNode params) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            values.put(field.getKey(), field.getValue().asText());
+        }
+        return values;
+    }
+
+    private record Score(double value, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.hotelproject.benchmarks;
+
+import com.example.hotelproject.dto.HotelDTO;
+import com.example.hotelproject.dto.HotelShortDTO;
+import com.example.hotelproject.entity.Address;
+import com.example.hotelproject.entity.Amenity;
+import com.example.hotelproject.entity.ArrivalTime;
+import com.example.hotelproject.entity.Brand;
+import com.example.hotelproject.entity.City;
+import com.example.hotelproject.entity.Contact;
+import com.example.hotelproject.entity.Country;
+import com.example.hotelproject.entity.Hotel;
+import com.example.hotelproject.entity.Street;
+import com.example.hotelproject.mapper.AddressMapperImpl;
+import com.example.hotelproject.mapper.HotelMapper;
+import com.example.hotelproject.mapper.HotelMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Entity to DTO mapping of one hotel, without database: the full view, the short view
+ * and its two formatting helpers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotelMapperBenchmark {
+
+    // 100 - описание не обрезается, 1000 - обрезается до 151 символа
+    @Param({"100", "1000"})
+    public int descriptionLength;
+
+    @Param({"3", "20"})
+    public int amenityCount;
+
+    private AnnotationConfigApplicationContext context;
+    private HotelMapper hotelMapper;
+    private Hotel hotel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Сгенерированный MapStruct маппер получает AddressMapper через Spring
+        context = new AnnotationConfigApplicationContext(HotelMapperImpl.class, AddressMapperImpl.class);
+        hotelMapper = context.getBean(HotelMapper.class);
+        hotel = hotel(descriptionLength, amenityCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public HotelShortDTO toShortDTO() {
+        return hotelMapper.toShortDTO(hotel);
+    }
+
+    @Benchmark
+    public HotelDTO toDTO() {
+        return hotelMapper.toDTO(hotel);
+    }
+
+    @Benchmark
+    public String formatAddress() {
+        return hotelMapper.formatAddress(hotel);
+    }
+
+    @Benchmark
+    public String truncateDescription() {
+        return hotelMapper.truncateDescription(hotel);
+    }
+
+    private static Hotel hotel(int descriptionLength, int amenityCount) {
+        Country country = Country.builder().id(1L).name("Belarus").build();
+        City city = City.builder().id(1L).name("Minsk").country(country).build();
+        Street street = Street.builder().id(1L).name("Pobediteley Avenue").city(city).build();
+        List<Amenity> amenities = IntStream.range(0, amenityCount)
+                .mapToObj(i -> Amenity.builder().id((long) i).name("Amenity " + i).build())
+                .toList();
+
+        Hotel hotel = Hotel.builder()
+                .id(1L)
+                .name("DoubleTree by Hilton Minsk")
+                .description("x".repeat(descriptionLength))
+                .brand(Brand.builder().id(1L).name("Hilton").build())
+                .amenities(amenities)
+                .version(0L)
+                .build();
+        hotel.setAddress(Address.builder().id(1L).houseNumber(9).street(street).postcode("220004").hotel(hotel).build());
+        hotel.setContact(Contact.builder().id(1L).phone("+375 17 309-80-00").email("doubletreeminsk.info@hilton.com").hotel(hotel).build());
+        hotel.setArrivalTime(ArrivalTime.builder().id(1L).checkIn("14:00").checkOut("12:00").hotel(hotel).build());
+        return hotel;
+    }
+}
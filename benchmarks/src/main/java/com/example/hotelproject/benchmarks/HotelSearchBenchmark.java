@@ -0,0 +1,77 @@
+package com.example.hotelproject.benchmarks;
+
+import com.example.hotelproject.dto.HotelShortDTO;
+import com.example.hotelproject.service.CatalogGenerator;
+import com.example.hotelproject.service.HotelService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every branch of {@link HotelService#searchHotels} against embedded H2 at several catalog sizes.
+ * Searched values have a fixed popularity rank in the skewed catalog, so results grow with the catalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HotelSearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int catalogSize;
+
+    private BenchmarkCatalog catalog;
+    private HotelService hotelService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalog = BenchmarkCatalog.start(catalogSize);
+        hotelService = catalog.bean(HotelService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        catalog.close();
+    }
+
+    // "Generated Hotel 77" совпадает с 77, 770-779, 7700-7799 ...
+    @Benchmark
+    public List<HotelShortDTO> searchByName() {
+        return hotelService.searchHotels(CatalogGenerator.hotelName(77), null, null, null, null);
+    }
+
+    @Benchmark
+    public List<HotelShortDTO> searchByBrand() {
+        return hotelService.searchHotels(null, List.of(CatalogGenerator.brandName(3)), null, null, null);
+    }
+
+    @Benchmark
+    public List<HotelShortDTO> searchByCity() {
+        return hotelService.searchHotels(null, null, List.of(CatalogGenerator.cityName(7)), null, null);
+    }
+
+    @Benchmark
+    public List<HotelShortDTO> searchByCountry() {
+        return hotelService.searchHotels(null, null, null, List.of(CatalogGenerator.countryName(2)), null);
+    }
+
+    @Benchmark
+    public List<HotelShortDTO> searchByAmenity() {
+        return hotelService.searchHotels(null, null, null, null, List.of(CatalogGenerator.amenityName(5)));
+    }
+}
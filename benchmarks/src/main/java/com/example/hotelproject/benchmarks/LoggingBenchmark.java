@@ -0,0 +1,147 @@
+package com.example.hotelproject.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.hotelproject.config.SqlLogSamplingFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of logging for the request thread: a request log line built by concatenation, with
+ * placeholders and below the logger level, and Hibernate-style SQL logging with and without
+ * {@link SqlLogSamplingFilter}. Appender "sync" formats and writes on the calling thread, "async"
+ * only enqueues (a full queue drops events instead of blocking). Output goes to a null stream,
+ * so disk and terminal speed are not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] [%X{requestId:-}] %logger{39} : %m%n";
+    private static final String SQL = "select h1_0.id,h1_0.brand_id,h1_0.description,h1_0.name,h1_0.version from hotels h1_0 "
+            + "join addresses a1_0 on h1_0.id=a1_0.id join streets s1_0 on s1_0.id=a1_0.street_id "
+            + "join cities c1_0 on c1_0.id=s1_0.city_id where upper(c1_0.name)=upper(?)";
+
+    @Param({"sync", "async"})
+    public String appender;
+
+    private LoggerContext plainContext;
+    private LoggerContext sampledContext;
+    private Logger requestLogger;
+    private Logger plainSqlLogger;
+    private Logger sampledSqlLogger;
+    private String param = "city";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        plainContext = context(false);
+        sampledContext = context(true);
+        requestLogger = plainContext.getLogger("com.example.hotelproject.controller.HotelController");
+        plainSqlLogger = plainContext.getLogger("org.hibernate.SQL");
+        sampledSqlLogger = sampledContext.getLogger("org.hibernate.SQL");
+        MDC.put("requestId", "0f8fad5b-d9cb-469f-a165-70867728950e");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MDC.clear();
+        plainContext.stop();
+        sampledContext.stop();
+    }
+
+    @Benchmark
+    public void requestLogConcatenation() {
+        requestLogger.info("Get grouping list from controller with params: " + param);
+    }
+
+    @Benchmark
+    public void requestLogPlaceholder() {
+        requestLogger.info("Get grouping list from controller with params: {}", param);
+    }
+
+    @Benchmark
+    public void requestLogBelowLevel() {
+        requestLogger.debug("Get grouping list from controller with params: {}", param);
+    }
+
+    @Benchmark
+    public void sqlLogAll() {
+        logStatement(plainSqlLogger);
+    }
+
+    // 10 запросов в секунду, остальные отбрасываются до форматирования
+    @Benchmark
+    public void sqlLogSampled() {
+        logStatement(sampledSqlLogger);
+    }
+
+    // Так пишет SQL Hibernate: сначала проверка уровня, затем сообщение
+    private static void logStatement(Logger logger) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(SQL);
+        }
+    }
+
+    private LoggerContext context(boolean sampled) {
+        LoggerContext context = new LoggerContext();
+        if (sampled) {
+            SqlLogSamplingFilter filter = new SqlLogSamplingFilter();
+            filter.setMaxPerSecond(10);
+            filter.setContext(context);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        Appender<ILoggingEvent> root = output;
+        if ("async".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(output);
+            async.start();
+            root = async;
+        }
+
+        Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+        rootLogger.addAppender(root);
+        context.getLogger("org.hibernate.SQL").setLevel(ch.qos.logback.classic.Level.DEBUG);
+        return context;
+    }
+}
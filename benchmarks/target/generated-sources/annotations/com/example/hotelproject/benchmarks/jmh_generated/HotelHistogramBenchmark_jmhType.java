@@ -0,0 +1,4 @@
+package com.example.hotelproject.benchmarks.jmh_generated;
+public class HotelHistogramBenchmark_jmhType extends HotelHistogramBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.example.hotelproject.benchmarks.jmh_generated;
+public class HotelMapperBenchmark_jmhType extends HotelMapperBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.example.hotelproject.benchmarks.jmh_generated;
+public class HotelSearchBenchmark_jmhType extends HotelSearchBenchmark_jmhType_B3 {
+}
+
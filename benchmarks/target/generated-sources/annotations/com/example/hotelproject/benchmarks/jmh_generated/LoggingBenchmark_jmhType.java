@@ -0,0 +1,4 @@
+package com.example.hotelproject.benchmarks.jmh_generated;
+public class LoggingBenchmark_jmhType extends LoggingBenchmark_jmhType_B3 {
+}
+
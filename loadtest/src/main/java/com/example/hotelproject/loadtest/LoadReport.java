@@ -0,0 +1,161 @@
+package com.example.hotelproject.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency statistics of a load test run, per request name and in total.
+ * Response time is measured from the moment the request was scheduled to be sent, not from the
+ * moment it was actually sent, so a stalled server or client shows up in the percentiles instead of
+ * silently lowering the load (coordinated omission). Service time, from send to response, is kept
+ * separately for comparison. Values are recorded in microseconds.
+ */
+public class LoadReport {
+
+    public static final String TOTAL = "ALL";
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoadScenario scenario;
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private volatile Duration measuredDuration = Duration.ZERO;
+
+    public LoadReport(LoadScenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public void recordResponse(String name, int status, long responseNanos, long serviceNanos) {
+        for (Stats target : targets(name)) {
+            target.responseTime.recordValue(toMicros(responseNanos));
+            target.serviceTime.recordValue(toMicros(serviceNanos));
+            (status >= 200 && status < 300 ? target.ok : target.errors).increment();
+            target.statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+        }
+    }
+
+    // Таймаут или обрыв соединения: время до ошибки тоже входит в распределение
+    public void recordFailure(String name, long responseNanos) {
+        for (Stats target : targets(name)) {
+            target.responseTime.recordValue(toMicros(responseNanos));
+            target.failures.increment();
+        }
+    }
+
+    // Запрос не отправлен: клиент упёрся в maxInFlight
+    public void recordDropped(String name) {
+        for (Stats target : targets(name)) {
+            target.dropped.increment();
+        }
+    }
+
+    public void finish(Duration measuredDuration) {
+        this.measuredDuration = measuredDuration;
+    }
+
+    public Histogram responseTime(String name) {
+        return stats.get(name).responseTime;
+    }
+
+    public long count(String name) {
+        Stats target = stats.get(name);
+        return target == null ? 0 : target.ok.sum() + target.errors.sum() + target.failures.sum();
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        double seconds = Math.max(measuredDuration.toMillis(), 1) / 1000.0;
+        summary.append(String.format("Scenario %s: target %.1f req/s, measured %.1f s, achieved %.1f req/s%n",
+                scenario.name(), scenario.ratePerSecond(), seconds, count(TOTAL) / seconds));
+        summary.append("Response time (from intended start, ms):\n");
+        summary.append(String.format("%-16s %8s %8s %8s %8s %9s %9s %9s %9s %9s %11s%n",
+                "request", "count", "non-2xx", "failed", "dropped", "p50", "p90", "p99", "p99.9", "max", "svc p99"));
+        for (Map.Entry<String, Stats> entry : sorted().entrySet()) {
+            Stats target = entry.getValue();
+            Histogram response = target.responseTime;
+            summary.append(String.format("%-16s %8d %8d %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f%n",
+                    entry.getKey(), count(entry.getKey()), target.errors.sum(), target.failures.sum(), target.dropped.sum(),
+                    millis(response.getValueAtPercentile(50)), millis(response.getValueAtPercentile(90)),
+                    millis(response.getValueAtPercentile(99)), millis(response.getValueAtPercentile(99.9)),
+                    millis(response.getMaxValue()), millis(target.serviceTime.getValueAtPercentile(99))));
+        }
+        Map<Integer, Long> statuses = new TreeMap<>();
+        stats.getOrDefault(TOTAL, new Stats()).statuses.forEach((status, counter) -> statuses.put(status, counter.sum()));
+        summary.append("Status codes: ").append(statuses).append('\n');
+        return summary.toString();
+    }
+
+    /**
+     * Writes the summary with full percentile distributions to {@code <name>-<timestamp>.txt} and the
+     * histograms in HdrHistogram log format to {@code <name>-<timestamp>.hlog}, one tag per request name,
+     * so runs can be plotted and compared with HistogramLogProcessor or HdrHistogram's plotter.
+     */
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String baseName = scenario.name() + "-" + LocalDateTime.now().format(FILE_TIMESTAMP);
+        Path text = directory.resolve(baseName + ".txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(text), false, "UTF-8")) {
+            out.print(summary());
+            for (Map.Entry<String, Stats> entry : sorted().entrySet()) {
+                out.printf("%n=== %s: response time, ms ===%n", entry.getKey());
+                entry.getValue().responseTime.outputPercentileDistribution(out, 1000.0);
+                out.printf("%n=== %s: service time, ms ===%n", entry.getKey());
+                entry.getValue().serviceTime.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        Path log = directory.resolve(baseName + ".hlog");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(log), false, "UTF-8")) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputComment("Scenario " + scenario.name() + ", response time in microseconds from intended start");
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            for (Map.Entry<String, Stats> entry : sorted().entrySet()) {
+                Histogram histogram = entry.getValue().responseTime.copy();
+                histogram.setTag(entry.getKey());
+                writer.outputIntervalHistogram(histogram);
+            }
+        }
+        return text;
+    }
+
+    private Stats[] targets(String name) {
+        return new Stats[]{stats.computeIfAbsent(name, key -> new Stats()), stats.computeIfAbsent(TOTAL, key -> new Stats())};
+    }
+
+    private Map<String, Stats> sorted() {
+        return new TreeMap<>(stats);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Stats {
+        private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.hotelproject.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test scenario read from a YAML file (see scenarios/): the arrival rate, the run length and
+ * a weighted mix of request templates. Templates may contain {placeholders}: {seq} is the request
+ * number, {runId} identifies the run, any other name takes a random value from variables.
+ */
+public record LoadScenario(
+        String name,
+        String baseUrl,
+        double ratePerSecond,
+        int warmupSeconds,
+        int durationSeconds,
+        int timeoutMillis,
+        int maxInFlight,
+        long seed,
+        List<RequestTemplate> requests,
+        Map<String, List<String>> variables
+) {
+
+    public record RequestTemplate(String name, int weight, String method, String path, String body) {
+
+        public String methodOrDefault() {
+            return method != null ? method.toUpperCase() : "GET";
+        }
+    }
+
+    public static LoadScenario load(Path file) throws IOException {
+        ObjectMapper mapper = new ObjectMapper(new YAMLFactory())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        LoadScenario scenario = mapper.readValue(file.toFile(), LoadScenario.class);
+        scenario.validate();
+        return scenario;
+    }
+
+    private void validate() {
+        if (baseUrl == null || requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Scenario " + name + " needs baseUrl and at least one request");
+        }
+        if (ratePerSecond <= 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("Scenario " + name + " needs positive ratePerSecond and durationSeconds");
+        }
+        for (RequestTemplate request : requests) {
+            if (request.name() == null || request.path() == null || request.weight() <= 0) {
+                throw new IllegalArgumentException("Request " + request.name() + " needs name, path and a positive weight");
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.hotelproject.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * Command line entry point: runs a scenario against a running application and writes the report.
+ * Usage: LoadTestRunner [scenario.yaml] [reportDirectory]
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path scenarioFile = Path.of(args.length > 0 ? args[0] : "scenarios/mixed.yaml");
+        Path reportDirectory = Path.of(args.length > 1 ? args[1] : "target/loadtest");
+
+        LoadScenario scenario = LoadScenario.load(scenarioFile);
+        System.out.printf("Running %s against %s: %.1f req/s, %d s warmup, %d s measured%n", scenario.name(),
+                scenario.baseUrl(), scenario.ratePerSecond(), scenario.warmupSeconds(), scenario.durationSeconds());
+
+        LoadReport report = new OpenModelLoadDriver(scenario).run();
+        Path file = report.write(reportDirectory);
+        System.out.print(report.summary());
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+}
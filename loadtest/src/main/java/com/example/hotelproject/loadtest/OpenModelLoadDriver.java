@@ -0,0 +1,90 @@
+package com.example.hotelproject.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load driver: requests are started at a constant arrival rate regardless of how fast the
+ * server answers, each one on its own virtual thread. A single scheduler thread computes the intended
+ * start time of every request up front; when the scheduler falls behind, the delay is counted in the
+ * response time because latency is measured from the intended start, not from the actual send.
+ */
+public class OpenModelLoadDriver {
+
+    private final LoadScenario scenario;
+
+    public OpenModelLoadDriver(LoadScenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        LoadReport report = new LoadReport(scenario);
+        RequestGenerator generator = new RequestGenerator(scenario, UUID.randomUUID().toString().substring(0, 8));
+        Semaphore inFlight = new Semaphore(scenario.maxInFlight() > 0 ? scenario.maxInFlight() : Integer.MAX_VALUE);
+        long intervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / scenario.ratePerSecond()));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofMillis(scenario.timeoutMillis()))
+                    .build();
+
+            long start = System.nanoTime();
+            long measureFrom = start + TimeUnit.SECONDS.toNanos(scenario.warmupSeconds());
+            long end = measureFrom + TimeUnit.SECONDS.toNanos(scenario.durationSeconds());
+            for (long seq = 0; ; seq++) {
+                long intended = start + seq * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                waitUntil(intended);
+                RequestGenerator.PlannedRequest planned = generator.next(seq);
+                // Прогрев нагружает сервер, но в отчёт не попадает
+                boolean measured = intended >= measureFrom;
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        report.recordDropped(planned.name());
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(planned.request(), HttpResponse.BodyHandlers.discarding());
+                        long done = System.nanoTime();
+                        if (measured) {
+                            report.recordResponse(planned.name(), response.statusCode(), done - intended, done - sent);
+                        }
+                    } catch (Exception e) {
+                        if (measured) {
+                            report.recordFailure(planned.name(), System.nanoTime() - intended);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            // close() исполнителя дожидается запросов, которые ещё в полёте
+            report.finish(Duration.ofNanos(end - measureFrom));
+        }
+        return report;
+    }
+
+    // Опаздывающий планировщик не ждёт, а догоняет расписание
+    private static void waitUntil(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.hotelproject.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the weighted request templates of a scenario into concrete HTTP requests.
+ * Requests are drawn from a seeded random generator, so the same scenario always sends
+ * the same sequence of requests.
+ */
+public class RequestGenerator {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+
+    private final LoadScenario scenario;
+    private final String runId;
+    private final SplittableRandom random;
+    private final int[] cumulativeWeights;
+
+    public RequestGenerator(LoadScenario scenario, String runId) {
+        this.scenario = scenario;
+        this.runId = runId;
+        this.random = new SplittableRandom(scenario.seed());
+        List<LoadScenario.RequestTemplate> requests = scenario.requests();
+        this.cumulativeWeights = new int[requests.size()];
+        int sum = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            sum += requests.get(i).weight();
+            cumulativeWeights[i] = sum;
+        }
+        requests.forEach(this::checkPlaceholders);
+    }
+
+    public PlannedRequest next(long seq) {
+        LoadScenario.RequestTemplate template = pick();
+        // Значения в URL кодируем, в теле подставляем как есть
+        String path = substitute(template.path(), seq, value -> URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20"));
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(scenario.baseUrl() + path))
+                .timeout(Duration.ofMillis(scenario.timeoutMillis()));
+        if (template.body() != null) {
+            request.header("Content-Type", "application/json")
+                    .method(template.methodOrDefault(), HttpRequest.BodyPublishers.ofString(substitute(template.body(), seq, UnaryOperator.identity())));
+        } else {
+            request.method(template.methodOrDefault(), HttpRequest.BodyPublishers.noBody());
+        }
+        return new PlannedRequest(template.name(), request.build());
+    }
+
+    private LoadScenario.RequestTemplate pick() {
+        int point = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return scenario.requests().get(i);
+            }
+        }
+        throw new IllegalStateException("Weights are not cumulative");
+    }
+
+    private String substitute(String template, long seq, UnaryOperator<String> encoder) {
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String value = switch (matcher.group(1)) {
+                case "seq" -> String.valueOf(seq);
+                case "runId" -> runId;
+                default -> {
+                    List<String> values = scenario.variables().get(matcher.group(1));
+                    yield values.get(random.nextInt(values.size()));
+                }
+            };
+            matcher.appendReplacement(result, Matcher.quoteReplacement(encoder.apply(value)));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    // Ошибку в сценарии лучше увидеть до начала нагрузки
+    private void checkPlaceholders(LoadScenario.RequestTemplate template) {
+        Map<String, List<String>> variables = scenario.variables() != null ? scenario.variables() : Map.of();
+        for (String text : new String[]{template.path(), template.body()}) {
+            if (text == null) {
+                continue;
+            }
+            Matcher matcher = PLACEHOLDER.matcher(text);
+            while (matcher.find()) {
+                String name = matcher.group(1);
+                if (!name.equals("seq") && !name.equals("runId")
+                        && (!variables.containsKey(name) || variables.get(name).isEmpty())) {
+                    throw new IllegalArgumentException("Request " + template.name() + " uses undefined variable {" + name + "}");
+                }
+            }
+        }
+    }
+
+    public record PlannedRequest(String name, HttpRequest request) {
+    }
+}
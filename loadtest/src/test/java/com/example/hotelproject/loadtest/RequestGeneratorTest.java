@@ -0,0 +1,85 @@
+package com.example.hotelproject.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestGenerator Tests")
+class RequestGeneratorTest {
+
+    @Test
+    @DisplayName("next - should send the same request sequence for the same seed")
+    void next_ShouldBeDeterministic() throws Exception {
+        // Given
+        LoadScenario scenario = LoadScenario.load(Path.of("scenarios/mixed.yaml"));
+
+        // When
+        List<String> first = uris(new RequestGenerator(scenario, "run"));
+        List<String> second = uris(new RequestGenerator(scenario, "run"));
+
+        // Then
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("next - should pick requests in proportion to their weights")
+    void next_ShouldFollowWeights() throws Exception {
+        // Given
+        RequestGenerator generator = new RequestGenerator(LoadScenario.load(Path.of("scenarios/mixed.yaml")), "run");
+
+        // When
+        Map<String, Long> counts = LongStream.range(0, 10_000)
+                .mapToObj(generator::next)
+                .collect(Collectors.groupingBy(RequestGenerator.PlannedRequest::name, Collectors.counting()));
+
+        // Then
+        assertThat(counts.get("get-hotel")).isBetween(5_200L, 5_800L);
+        assertThat(counts.get("create-hotel")).isBetween(350L, 650L);
+    }
+
+    @Test
+    @DisplayName("next - should substitute and encode placeholders")
+    void next_ShouldSubstitutePlaceholders() {
+        // Given
+        LoadScenario scenario = scenario(new LoadScenario.RequestTemplate("search", 1, null, "/search?city={city}&n={seq}", null),
+                Map.of("city", List.of("New York")));
+
+        // When
+        RequestGenerator.PlannedRequest request = new RequestGenerator(scenario, "run").next(7);
+
+        // Then
+        assertThat(request.request().method()).isEqualTo("GET");
+        assertThat(request.request().uri().toString()).isEqualTo("http://localhost:8092/search?city=New%20York&n=7");
+    }
+
+    @Test
+    @DisplayName("RequestGenerator - should reject template with undefined variable")
+    void constructor_ShouldThrowException_WhenVariableUndefined() {
+        // Given
+        LoadScenario scenario = scenario(new LoadScenario.RequestTemplate("search", 1, "GET", "/search?city={town}", null), Map.of());
+
+        // When & Then
+        assertThatThrownBy(() -> new RequestGenerator(scenario, "run"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("{town}");
+    }
+
+    private List<String> uris(RequestGenerator generator) {
+        return LongStream.range(0, 200)
+                .mapToObj(generator::next)
+                .map(planned -> planned.request().method() + " " + planned.request().uri())
+                .collect(Collectors.toList());
+    }
+
+    private LoadScenario scenario(LoadScenario.RequestTemplate template, Map<String, List<String>> variables) {
+        return new LoadScenario("test", "http://localhost:8092", 10, 0, 1, 1000, 10, 1, List.of(template), variables);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.hotelproject.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Non-blocking read API (GET /hotels, /hotels/{id}, /search, /histogram) over the same database
+ * and DTOs as the main application, for clients with high request fan-out.
+ */
+@SpringBootApplication
+public class ReactiveHotelApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveHotelApplication.class, args);
+    }
+}
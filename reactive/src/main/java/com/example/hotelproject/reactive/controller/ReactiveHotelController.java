@@ -0,0 +1,55 @@
+package com.example.hotelproject.reactive.controller;
+
+import com.example.hotelproject.dto.HotelDTO;
+import com.example.hotelproject.dto.HotelShortDTO;
+import com.example.hotelproject.reactive.service.ReactiveHotelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+// Те же пути и параметры, что у HotelController основного приложения (только чтение)
+@Slf4j
+@RestController
+@RequestMapping("/property-view")
+@RequiredArgsConstructor
+public class ReactiveHotelController {
+
+    private final ReactiveHotelService hotelService;
+
+    @GetMapping("/hotels")
+    public Flux<HotelShortDTO> getAllHotels() {
+        return hotelService.getAllHotelsShortInfo();
+    }
+
+    @GetMapping("/hotels/{id}")
+    public Mono<HotelDTO> getHotel(@PathVariable Long id) {
+        return hotelService.getHotelById(id);
+    }
+
+    @GetMapping("/search")
+    public Flux<HotelShortDTO> searchHotels(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) List<String> brand,
+            @RequestParam(required = false) List<String> city,
+            @RequestParam(required = false) List<String> country,
+            @RequestParam(required = false) List<String> amenity
+    ) {
+        log.debug("Search hotels with params: name={}, brand={}, city={}, country={}, amenity={}",
+                name, brand, city, country, amenity);
+        return hotelService.searchHotels(name, brand, city, country, amenity);
+    }
+
+    @GetMapping("/histogram/{param}")
+    public Mono<Map<String, Long>> getHotelHistogram(@PathVariable String param) {
+        return hotelService.getHotelListGroupByParam(param);
+    }
+}
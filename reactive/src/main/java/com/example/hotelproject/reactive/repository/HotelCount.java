@@ -0,0 +1,7 @@
+package com.example.hotelproject.reactive.repository;
+
+/**
+ * Number of hotels for one value of a histogram parameter.
+ */
+public record HotelCount(String name, Long hotels) {
+}
@@ -0,0 +1,24 @@
+package com.example.hotelproject.reactive.repository;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Hotel with its brand, address, contacts and arrival time, read by one join query.
+ */
+@Table("hotels")
+public record HotelRow(@Id Long id,
+                       String name,
+                       String description,
+                       String brand,
+                       @Column("house_number") Integer houseNumber,
+                       String street,
+                       String city,
+                       String country,
+                       @Column("post_code") String postCode,
+                       String phone,
+                       String email,
+                       @Column("check_in") String checkIn,
+                       @Column("check_out") String checkOut) {
+}
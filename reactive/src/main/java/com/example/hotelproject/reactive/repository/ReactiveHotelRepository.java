@@ -0,0 +1,76 @@
+package com.example.hotelproject.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ReactiveHotelRepository extends R2dbcRepository<HotelRow, Long> {
+
+    // Отель со всеми связанными данными одним запросом; имена колонок совпадают с HotelRow
+    String SELECT_HOTEL_ROWS = "SELECT h.id, h.name, h.description, b.name AS brand, " +
+            "a.housenumber AS house_number, s.name AS street, c.name AS city, co.name AS country, " +
+            "a.postcode AS post_code, ct.phone, ct.email, art.check_in, art.check_out " +
+            "FROM hotels h " +
+            "JOIN brands b ON b.id = h.brand_id " +
+            "LEFT JOIN addresses a ON a.id = h.id " +
+            "LEFT JOIN streets s ON s.id = a.street_id " +
+            "LEFT JOIN cities c ON c.id = s.city_id " +
+            "LEFT JOIN countries co ON co.id = c.country_id " +
+            "LEFT JOIN contacts ct ON ct.id = h.id " +
+            "LEFT JOIN arrival_times art ON art.id = h.id ";
+
+    @Query(SELECT_HOTEL_ROWS + "ORDER BY h.id")
+    Flux<HotelRow> findAllRows();
+
+    @Query(SELECT_HOTEL_ROWS + "WHERE h.id = :id")
+    Mono<HotelRow> findRowById(@Param("id") Long id);
+
+    @Query(SELECT_HOTEL_ROWS + "WHERE UPPER(h.name) LIKE UPPER(CONCAT('%', :name, '%')) ORDER BY h.id")
+    Flux<HotelRow> findByNameContainingIgnoreCase(@Param("name") String name);
+
+    // Значения списков передаются в верхнем регистре
+    @Query(SELECT_HOTEL_ROWS + "WHERE UPPER(b.name) IN (:brandNames) ORDER BY h.id")
+    Flux<HotelRow> findByBrandNames(@Param("brandNames") Collection<String> brandNames);
+
+    @Query(SELECT_HOTEL_ROWS + "WHERE UPPER(c.name) IN (:cityNames) ORDER BY h.id")
+    Flux<HotelRow> findByCities(@Param("cityNames") Collection<String> cityNames);
+
+    @Query(SELECT_HOTEL_ROWS + "WHERE UPPER(co.name) IN (:countryNames) ORDER BY h.id")
+    Flux<HotelRow> findByCountries(@Param("countryNames") Collection<String> countryNames);
+
+    @Query(SELECT_HOTEL_ROWS + "WHERE EXISTS (SELECT 1 FROM hotel_amenities ha " +
+            "JOIN amenities am ON am.id = ha.amenity_id " +
+            "WHERE ha.hotel_id = h.id AND UPPER(am.name) IN (:amenityNames)) ORDER BY h.id")
+    Flux<HotelRow> findByAnyAmenities(@Param("amenityNames") Collection<String> amenityNames);
+
+    @Query("SELECT am.name FROM hotel_amenities ha JOIN amenities am ON am.id = ha.amenity_id " +
+            "WHERE ha.hotel_id = :hotelId ORDER BY am.id")
+    Flux<String> findAmenityNames(@Param("hotelId") Long hotelId);
+
+    @Query("SELECT b.name, COUNT(*) AS hotels FROM hotels h JOIN brands b ON b.id = h.brand_id GROUP BY b.name")
+    Flux<HotelCount> groupHotelsByBrands();
+
+    @Query("SELECT c.name, COUNT(*) AS hotels FROM hotels h " +
+            "JOIN addresses a ON a.id = h.id " +
+            "JOIN streets s ON s.id = a.street_id " +
+            "JOIN cities c ON c.id = s.city_id " +
+            "GROUP BY c.name")
+    Flux<HotelCount> groupHotelsByCities();
+
+    @Query("SELECT co.name, COUNT(*) AS hotels FROM hotels h " +
+            "JOIN addresses a ON a.id = h.id " +
+            "JOIN streets s ON s.id = a.street_id " +
+            "JOIN cities c ON c.id = s.city_id " +
+            "JOIN countries co ON co.id = c.country_id " +
+            "GROUP BY co.name")
+    Flux<HotelCount> groupHotelsByCountry();
+
+    @Query("SELECT am.name, COUNT(*) AS hotels FROM hotel_amenities ha " +
+            "JOIN amenities am ON am.id = ha.amenity_id " +
+            "GROUP BY am.name")
+    Flux<HotelCount> groupHotelsByAmenities();
+}
@@ -0,0 +1,128 @@
+package com.example.hotelproject.reactive.service;
+
+import com.example.hotelproject.dto.AddressDTO;
+import com.example.hotelproject.dto.ArrivalTimeDTO;
+import com.example.hotelproject.dto.ContactDTO;
+import com.example.hotelproject.dto.HotelDTO;
+import com.example.hotelproject.dto.HotelShortDTO;
+import com.example.hotelproject.exception.HotelNotFoundException;
+import com.example.hotelproject.exception.MissingSearchParameterException;
+import com.example.hotelproject.reactive.repository.HotelCount;
+import com.example.hotelproject.reactive.repository.HotelRow;
+import com.example.hotelproject.reactive.repository.ReactiveHotelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveHotelService {
+
+    private final ReactiveHotelRepository hotelRepository;
+
+    public Flux<HotelShortDTO> getAllHotelsShortInfo() {
+        return hotelRepository.findAllRows().map(this::toShortDTO);
+    }
+
+    public Mono<HotelDTO> getHotelById(Long id) {
+        return hotelRepository.findRowById(id)
+                .switchIfEmpty(Mono.error(() -> new HotelNotFoundException("Hotel not found with id: " + id)))
+                .zipWith(hotelRepository.findAmenityNames(id).collectList(), this::toDTO);
+    }
+
+    // Как и в основном приложении, ищем по первому переданному параметру
+    public Flux<HotelShortDTO> searchHotels(String name, List<String> brands, List<String> cities,
+                                            List<String> countries, List<String> amenities) {
+        List<String> brandNames = toUpperCase(brands);
+        List<String> cityNames = toUpperCase(cities);
+        List<String> countryNames = toUpperCase(countries);
+        List<String> amenityNames = toUpperCase(amenities);
+
+        Flux<HotelRow> hotels;
+        if (name != null && !name.trim().isEmpty()) {
+            hotels = hotelRepository.findByNameContainingIgnoreCase(name);
+        } else if (!brandNames.isEmpty()) {
+            hotels = hotelRepository.findByBrandNames(brandNames);
+        } else if (!cityNames.isEmpty()) {
+            hotels = hotelRepository.findByCities(cityNames);
+        } else if (!countryNames.isEmpty()) {
+            hotels = hotelRepository.findByCountries(countryNames);
+        } else if (!amenityNames.isEmpty()) {
+            hotels = hotelRepository.findByAnyAmenities(amenityNames);
+        } else {
+            return Flux.error(new MissingSearchParameterException("At least one search parameter is required"));
+        }
+        return hotels.map(this::toShortDTO);
+    }
+
+    public Mono<Map<String, Long>> getHotelListGroupByParam(String param) {
+        log.info("Get group list from reactive service with param = {}", param);
+
+        Flux<HotelCount> counts = switch (param.toLowerCase()) {
+            case "city", "cities" -> hotelRepository.groupHotelsByCities();
+            case "country", "countries" -> hotelRepository.groupHotelsByCountry();
+            case "brand", "brands" -> hotelRepository.groupHotelsByBrands();
+            case "amenity", "amenities" -> hotelRepository.groupHotelsByAmenities();
+            default -> Flux.error(new IllegalArgumentException("Invalid parameter: " + param));
+        };
+        return counts.collectMap(HotelCount::name, HotelCount::hotels);
+    }
+
+    // Пустые строки отбрасываются, остальные значения приводятся к верхнему регистру
+    private List<String> toUpperCase(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(value -> value != null && !value.trim().isEmpty())
+                .map(String::toUpperCase)
+                .toList();
+    }
+
+    // Тот же формат, что у HotelMapper.toShortDTO в основном приложении
+    private HotelShortDTO toShortDTO(HotelRow row) {
+        String description = row.description() != null && row.description().length() > 151
+                ? row.description().substring(0, 151) + "..."
+                : row.description();
+        String address = row.street() == null ? null : String.format("%d %s, %s, %s, %s",
+                row.houseNumber(), row.street(), row.city(), row.postCode(), row.country());
+        return HotelShortDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .description(description)
+                .address(address)
+                .phone(row.phone())
+                .build();
+    }
+
+    private HotelDTO toDTO(HotelRow row, List<String> amenities) {
+        return HotelDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .description(row.description())
+                .brand(row.brand())
+                .address(row.street() == null ? null : AddressDTO.builder()
+                        .houseNumber(row.houseNumber())
+                        .street(row.street())
+                        .city(row.city())
+                        .country(row.country())
+                        .postCode(row.postCode())
+                        .build())
+                .contacts(row.phone() == null ? null : ContactDTO.builder()
+                        .phone(row.phone())
+                        .email(row.email())
+                        .build())
+                .arrivalTime(row.checkIn() == null ? null : ArrivalTimeDTO.builder()
+                        .checkIn(row.checkIn())
+                        .checkOut(row.checkOut())
+                        .build())
+                .amenities(amenities)
+                .build();
+    }
+}
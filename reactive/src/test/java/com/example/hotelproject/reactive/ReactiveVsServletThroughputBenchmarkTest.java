@@ -0,0 +1,140 @@
+package com.example.hotelproject.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Side-by-side throughput of the read endpoints on the reactive stack (started here) and on the
+ * servlet application, which must already be running at {@code -Dservlet.url}
+ * (default http://localhost:8092, e.g. {@code java -jar target/hotel-project-0.0.1-SNAPSHOT.jar} in the root).
+ * The servlet run is skipped when it is not reachable. Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Reactive vs servlet read throughput benchmark")
+class ReactiveVsServletThroughputBenchmarkTest {
+
+    private static final int CLIENTS = 2000;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration RUN_TIME = Duration.ofSeconds(20);
+    private static final List<String> PATHS = List.of(
+            "/property-view/hotels/1",
+            "/property-view/search?city=Minsk",
+            "/property-view/histogram/amenities");
+
+    @ParameterizedTest(name = "stack={0}")
+    @ValueSource(strings = {"reactive", "servlet"})
+    @DisplayName("GET read endpoints - throughput with many concurrent clients")
+    void readEndpoints_Throughput(String stack) throws Exception {
+        ConfigurableApplicationContext context = null;
+        try {
+            String baseUrl;
+            if ("reactive".equals(stack)) {
+                context = new SpringApplicationBuilder(ReactiveHotelApplication.class)
+                        .properties("server.port=0")
+                        .run();
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            } else {
+                baseUrl = System.getProperty("servlet.url", "http://localhost:8092");
+                assumeTrue(isReachable(baseUrl), "Servlet application is not running at " + baseUrl);
+            }
+
+            runClients(baseUrl, WARM_UP);
+            Result result = runClients(baseUrl, RUN_TIME);
+
+            // Then
+            assertThat(result.latenciesMicros()).isNotEmpty();
+            log.info("{} stack, {} clients: {} requests ({} req/s), p50={} ms, p99={} ms, max={} ms, errors={}",
+                    stack, CLIENTS, result.latenciesMicros().size(),
+                    Math.round(result.latenciesMicros().size() / (double) RUN_TIME.toSeconds()),
+                    result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(1.0),
+                    result.errors());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private boolean isReachable(String baseUrl) {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATHS.getFirst()))
+                    .timeout(Duration.ofSeconds(2))
+                    .GET()
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private Result runClients(String baseUrl, Duration duration) throws InterruptedException {
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().executor(executor).build()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATHS.get(i % PATHS.size())))
+                        .timeout(Duration.ofSeconds(60))
+                        .GET()
+                        .build();
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long startedAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latencies.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+                            } else {
+                                errors.increment();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(duration.plusMinutes(2).toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return new Result(new ArrayList<>(latencies).stream().sorted().toList(), errors.sum());
+    }
+
+    private record Result(List<Long> latenciesMicros, long errors) {
+
+        long percentileMillis(double percentile) {
+            if (latenciesMicros.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latenciesMicros.size()) - 1;
+            return latenciesMicros.get(Math.max(index, 0)) / 1000;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.hotelproject.reactive.controller;
+
+import com.example.hotelproject.dto.HotelDTO;
+import com.example.hotelproject.dto.HotelShortDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read endpoints of the reactive application against the seeded H2 database.
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+@DisplayName("ReactiveHotelController Tests")
+class ReactiveHotelControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("GET /property-view/hotels - should return all seeded hotels")
+    void getAllHotels_ShouldReturnHotels_WithStatus200() {
+        webTestClient.get().uri("/property-view/hotels")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(HotelShortDTO.class)
+                .value(hotels -> assertThat(hotels).isNotEmpty()
+                        .allSatisfy(hotel -> assertThat(hotel.getName()).isNotBlank()));
+    }
+
+    @Test
+    @DisplayName("GET /property-view/hotels/{id} - should return hotel with address, contacts and amenities")
+    void getHotel_ShouldReturnHotel_WithStatus200() {
+        webTestClient.get().uri("/property-view/hotels/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(HotelDTO.class)
+                .value(hotel -> {
+                    assertThat(hotel.getName()).isEqualTo("DoubleTree by Hilton Minsk");
+                    assertThat(hotel.getBrand()).isEqualTo("Hilton");
+                    assertThat(hotel.getAddress().getCity()).isEqualTo("Minsk");
+                    assertThat(hotel.getAmenities()).isNotEmpty();
+                });
+    }
+
+    @Test
+    @DisplayName("GET /property-view/hotels/{id} - should return 404 when hotel not found")
+    void getHotel_ShouldReturn404_WhenHotelNotFound() {
+        webTestClient.get().uri("/property-view/hotels/999999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Hotel not found with id: 999999");
+    }
+
+    @Test
+    @DisplayName("GET /property-view/search - should find hotels by several brands ignoring case")
+    void searchHotels_ShouldFindHotelsByBrands() {
+        webTestClient.get().uri("/property-view/search?brand=hilton&brand=Marriott")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(HotelShortDTO.class)
+                .value(hotels -> assertThat(hotels).extracting(HotelShortDTO::getName)
+                        .contains("DoubleTree by Hilton Minsk"));
+    }
+
+    @Test
+    @DisplayName("GET /property-view/search - should return 422 when no parameter is passed")
+    void searchHotels_ShouldReturn422_WhenNoParameters() {
+        webTestClient.get().uri("/property-view/search")
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("GET /property-view/histogram/{param} - should count hotels per brand")
+    void getHotelHistogram_ShouldCountHotelsPerBrand() {
+        webTestClient.get().uri("/property-view/histogram/brand")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(new ParameterizedTypeReference<Map<String, Long>>() {
+                })
+                .value(histogram -> assertThat(histogram).containsKey("Hilton"));
+    }
+
+    @Test
+    @DisplayName("GET /property-view/histogram/{param} - should return 400 for unknown parameter")
+    void getHotelHistogram_ShouldReturn400_WhenParameterInvalid() {
+        webTestClient.get().uri("/property-view/histogram/stars")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /property-view/search - should return the same fields as the servlet application")
+    void searchHotels_ShouldFormatShortInfoLikeMainApplication() {
+        List<HotelShortDTO> hotels = webTestClient.get().uri("/property-view/search?name=DoubleTree")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(HotelShortDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(hotels).hasSize(1);
+        assertThat(hotels.getFirst().getAddress()).endsWith("Belarus");
+        assertThat(hotels.getFirst().getDescription()).endsWith("...");
+    }
+}
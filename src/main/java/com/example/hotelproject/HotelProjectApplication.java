@@ -1,13 +1,29 @@
 package com.example.hotelproject;
 
+import com.example.hotelproject.config.CatalogGeneratorConfig;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class HotelProjectApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(HotelProjectApplication.class, args);
+        SpringApplication application = new SpringApplication(HotelProjectApplication.class);
+        // --generate: заполнить базу синтетическим каталогом и завершиться, веб-сервер не нужен
+        boolean generate = Arrays.asList(args).contains("--" + CatalogGeneratorConfig.GENERATE_OPTION);
+        if (generate) {
+            application.setWebApplicationType(WebApplicationType.NONE);
+        }
+        ConfigurableApplicationContext context = application.run(args);
+        if (generate) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
 }
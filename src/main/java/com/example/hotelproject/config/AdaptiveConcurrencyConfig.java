@@ -0,0 +1,56 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * Adaptive concurrency limit with load shedding (hotel.adaptive-limit.enabled, off by default).
+ * The "adaptiveConcurrency" health indicator is part of the readiness group and reports
+ * OUT_OF_SERVICE while requests are being shed, so a load balancer can take traffic away.
+ */
+@Configuration(proxyBeanMethods = false)
+public class AdaptiveConcurrencyConfig {
+
+    @Bean
+    AdaptiveConcurrencyFilter adaptiveConcurrencyFilter(AdaptiveLimitProperties properties,
+                                                        @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                                                        MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyFilter(new GradientConcurrencyLimit(properties), exceptionResolver,
+                properties.getRetryAfter(), meterRegistry);
+    }
+
+    // Регистрируется всегда, чтобы readiness-группа не ссылалась на отсутствующий индикатор
+    @Bean
+    FilterRegistrationBean<AdaptiveConcurrencyFilter> adaptiveConcurrencyFilterRegistration(AdaptiveConcurrencyFilter filter,
+                                                                                            AdaptiveLimitProperties properties) {
+        FilterRegistrationBean<AdaptiveConcurrencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(properties.isEnabled());
+        registration.addUrlPatterns("/property-view/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Bean
+    HealthIndicator adaptiveConcurrencyHealthIndicator(AdaptiveConcurrencyFilter filter, AdaptiveLimitProperties properties) {
+        return () -> {
+            if (!properties.isEnabled()) {
+                return Health.up().withDetail("enabled", false).build();
+            }
+            Health.Builder health = filter.isShedding(properties.getReadinessHoldTime())
+                    ? Health.outOfService()
+                    : Health.up();
+            return health
+                    .withDetail("limit", filter.getLimit())
+                    .withDetail("inflight", filter.getInflight())
+                    .withDetail("shed", filter.getShedCount())
+                    .build();
+        };
+    }
+}
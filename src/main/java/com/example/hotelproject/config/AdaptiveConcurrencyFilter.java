@@ -0,0 +1,110 @@
+package com.example.hotelproject.config;
+
+import com.example.hotelproject.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load shedding in front of the REST API. Requests above the current {@link GradientConcurrencyLimit}
+ * are rejected immediately with 503 and Retry-After instead of queuing, so latency of admitted
+ * requests stays bounded when the database slows down.
+ */
+@Slf4j
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private final GradientConcurrencyLimit limit;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final Duration retryAfter;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter shed;
+    private volatile long lastShedNanos;
+    private volatile boolean shedding;
+
+    public AdaptiveConcurrencyFilter(GradientConcurrencyLimit limit,
+                                     HandlerExceptionResolver exceptionResolver,
+                                     Duration retryAfter,
+                                     MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.exceptionResolver = exceptionResolver;
+        this.retryAfter = retryAfter;
+        this.shed = meterRegistry.counter("hotel.adaptive.shed");
+        Gauge.builder("hotel.adaptive.limit", limit, GradientConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("hotel.adaptive.inflight", inflight, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/property-view/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int current = inflight.incrementAndGet();
+        if (current > limit.getLimit()) {
+            inflight.decrementAndGet();
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inflight.decrementAndGet();
+            // Ошибки сервера не учитываем: быстрые отказы занизили бы задержку
+            if (response.getStatus() < 500) {
+                limit.onSample(System.nanoTime() - start, current);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) {
+        shed.increment();
+        lastShedNanos = System.nanoTime();
+        if (!shedding) {
+            shedding = true;
+            log.warn("Concurrency limit {} reached, shedding load", limit.getLimit());
+        }
+        // Ответ в том же формате, что и у GlobalExceptionHandler
+        exceptionResolver.resolveException(request, response, null,
+                new ServiceOverloadedException("Server is overloaded, try again later", retryAfter));
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getShedCount() {
+        return (long) shed.count();
+    }
+
+    // Были ли отброшены запросы за последние holdTime
+    public boolean isShedding(Duration holdTime) {
+        boolean recent = shedding && System.nanoTime() - lastShedNanos < holdTime.toNanos();
+        if (shedding && !recent) {
+            shedding = false;
+            log.info("Load shedding stopped, concurrency limit {}", limit.getLimit());
+        }
+        return recent;
+    }
+}
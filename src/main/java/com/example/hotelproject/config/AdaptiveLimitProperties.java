@@ -0,0 +1,43 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the adaptive concurrency limit in front of the REST API (hotel.adaptive-limit.*).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.adaptive-limit")
+public class AdaptiveLimitProperties {
+
+    private boolean enabled = false;
+
+    // Начинаем с верхней границы: до первых замеров задержки запросы не отбрасываются
+    private int initialLimit = 200;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    // Во сколько раз задержка может превысить базовую, прежде чем лимит начнёт снижаться
+    private double tolerance = 1.5;
+
+    // Доля нового значения лимита при сглаживании
+    private double smoothing = 0.2;
+
+    // Число запросов в одном окне измерения задержки
+    private int windowSize = 20;
+
+    // Длина скользящего среднего базовой задержки, в окнах
+    private int longWindow = 100;
+
+    // Значение Retry-After для отброшенных запросов
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // Сколько readiness остаётся OUT_OF_SERVICE после последнего отброшенного запроса
+    private Duration readinessHoldTime = Duration.ofSeconds(5);
+}
@@ -0,0 +1,31 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the asynchronous hotel creation pipeline.
+ * When enabled, POST /hotels with "Prefer: respond-async" is queued and committed in groups.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.async-create")
+public class AsyncCreateProperties {
+
+    private boolean enabled = false;
+
+    // Максимальное число ожидающих запросов, дальше отвечаем 503
+    private int queueCapacity = 1000;
+
+    // Максимальное число отелей в одной транзакции
+    private int batchSize = 100;
+
+    // Сколько хранить статус завершённого запроса
+    private Duration statusRetention = Duration.ofMinutes(10);
+
+    // Значение Retry-After при переполненной очереди
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
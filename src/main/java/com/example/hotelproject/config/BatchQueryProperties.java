@@ -0,0 +1,25 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of POST /property-view/batch, which runs several search and histogram queries in parallel.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.batch")
+public class BatchQueryProperties {
+
+    // Максимальное число подзапросов в одном batch, больше - 400
+    private int maxQueries = 20;
+
+    // Сколько подзапросов одного batch выполняется одновременно
+    private int parallelism = 10;
+
+    // Общий дедлайн подзапросов, если у запроса нет своего (hotel.deadline.enabled=false)
+    private Duration timeout = Duration.ofSeconds(5);
+}
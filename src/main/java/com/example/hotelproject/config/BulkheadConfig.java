@@ -0,0 +1,69 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Request bulkheads per {@link WorkloadClass} (hotel.bulkhead.enabled, off by default):
+ * a concurrency limit per class on the web layer and a connection quota per class on the
+ * application data source. Quotas are fixed and are not adjusted when the pool is resized.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "hotel.bulkhead", name = "enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    @Bean
+    BulkheadInterceptor bulkheadInterceptor(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        return new BulkheadInterceptor(properties, meterRegistry);
+    }
+
+    @Bean
+    WebMvcConfigurer bulkheadWebMvcConfigurer(BulkheadInterceptor bulkheadInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(bulkheadInterceptor).addPathPatterns("/property-view/**");
+            }
+        };
+    }
+
+    @Bean
+    static BeanPostProcessor workloadConnectionQuotaPostProcessor(ObjectProvider<BulkheadProperties> properties,
+                                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        return new WorkloadConnectionQuotaPostProcessor(properties, meterRegistry);
+    }
+
+    // Не Ordered: оборачиваем итоговый dataSource после остальных BeanPostProcessor'ов
+    static class WorkloadConnectionQuotaPostProcessor implements BeanPostProcessor {
+
+        private final ObjectProvider<BulkheadProperties> properties;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        WorkloadConnectionQuotaPostProcessor(ObjectProvider<BulkheadProperties> properties,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+            this.properties = properties;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                BulkheadProperties bulkhead = properties.getObject();
+                log.info("Applying per-workload connection quotas to data source '{}'", beanName);
+                return new WorkloadConnectionQuotaDataSource(dataSource, bulkhead,
+                        bulkhead.getConnectionTimeout(), meterRegistry.getObject());
+            }
+            return bean;
+        }
+    }
+}
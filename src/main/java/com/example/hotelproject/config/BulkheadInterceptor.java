@@ -0,0 +1,93 @@
+package com.example.hotelproject.config;
+
+import com.example.hotelproject.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkheads between workload classes: every class marked with {@link Workload} has its own
+ * concurrency limit and wait queue, so a burst of expensive aggregations or searches cannot take
+ * all request threads away from cheap point reads. A request that does not get a slot within
+ * the class wait time is rejected with 503.
+ */
+@Slf4j
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String ACQUIRED_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".ACQUIRED";
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<WorkloadClass, Semaphore> slots = new EnumMap<>(WorkloadClass.class);
+    private final Map<WorkloadClass, Timer> queueTimers = new EnumMap<>(WorkloadClass.class);
+
+    public BulkheadInterceptor(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            int limit = properties.limitsOf(workload).getMaxConcurrent();
+            // Честная очередь: запросы получают место в порядке прихода
+            Semaphore semaphore = new Semaphore(limit, true);
+            slots.put(workload, semaphore);
+            queueTimers.put(workload, Timer.builder("hotel.bulkhead.queue.time")
+                    .description("Time requests waited for a bulkhead slot")
+                    .tag("workload", tagOf(workload))
+                    .register(meterRegistry));
+            Gauge.builder("hotel.bulkhead.active", semaphore, s -> limit - s.availablePermits())
+                    .tag("workload", tagOf(workload))
+                    .register(meterRegistry);
+            Gauge.builder("hotel.bulkhead.queued", semaphore, Semaphore::getQueueLength)
+                    .tag("workload", tagOf(workload))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Workload annotation = handlerMethod.getMethodAnnotation(Workload.class);
+        if (annotation == null) {
+            return true;
+        }
+
+        WorkloadClass workload = annotation.value();
+        long start = System.nanoTime();
+        boolean acquired = slots.get(workload).tryAcquire(properties.limitsOf(workload).getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        long waited = System.nanoTime() - start;
+        queueTimers.get(workload).record(waited, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            meterRegistry.counter("hotel.bulkhead.rejected", "workload", tagOf(workload), "reason", "concurrency").increment();
+            log.warn("Bulkhead {} is full, rejecting {} {}", workload, request.getMethod(), request.getRequestURI());
+            throw new ServiceOverloadedException("Too many concurrent " + tagOf(workload) + " requests", properties.getRetryAfter());
+        }
+
+        request.setAttribute(ACQUIRED_ATTRIBUTE, workload);
+        WorkloadContext.set(workload);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ACQUIRED_ATTRIBUTE) instanceof WorkloadClass workload) {
+            request.removeAttribute(ACQUIRED_ATTRIBUTE);
+            WorkloadContext.clear();
+            slots.get(workload).release();
+        }
+    }
+
+    static String tagOf(WorkloadClass workload) {
+        return workload.name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-workload limits of the request bulkheads (hotel.bulkhead.*).
+ * Example: hotel.bulkhead.classes.aggregation.max-concurrent=4
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = false;
+
+    // Значение Retry-After при отказе
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // Сколько запрос ждёт соединения в пределах квоты своего класса
+    private Duration connectionTimeout = Duration.ofSeconds(30);
+
+    private Map<WorkloadClass, Limits> classes = new EnumMap<>(WorkloadClass.class);
+
+    public Limits limitsOf(WorkloadClass workload) {
+        return classes.getOrDefault(workload, new Limits());
+    }
+
+    @Getter
+    @Setter
+    public static class Limits {
+
+        // Одновременно обрабатываемые запросы класса
+        private int maxConcurrent = 50;
+
+        // Сколько запрос может ждать свободного места, дальше 503
+        private Duration maxWait = Duration.ofMillis(500);
+
+        // Сколько соединений пула класс может занять одновременно; не меняется при изменении размера пула
+        private int maxConnections = 10;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.hotelproject.config;
+
+import com.example.hotelproject.service.CatalogGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CLI mode: started with --generate, the application fills its database with a synthetic catalog
+ * (hotel.catalog.*) and exits without starting the web server.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class CatalogGeneratorConfig {
+
+    public static final String GENERATE_OPTION = "generate";
+
+    @Bean
+    ApplicationRunner catalogGenerationRunner(CatalogGenerator catalogGenerator, CatalogProperties properties) {
+        return args -> {
+            if (args.containsOption(GENERATE_OPTION)) {
+                catalogGenerator.generate(properties);
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Shape of the synthetic catalog written by {@link com.example.hotelproject.service.CatalogGenerator}
+ * (hotel.catalog.*). The same seed and settings always produce the same catalog.
+ * Example: java -jar target/hotel-project-0.0.1-SNAPSHOT.jar --generate --hotel.catalog.hotels=1000000
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.catalog")
+public class CatalogProperties {
+
+    private int hotels = 10_000;
+
+    private long seed = 42;
+
+    private int countries = 50;
+
+    private int cities = 2_000;
+
+    private int streetsPerCity = 20;
+
+    private int brands = 300;
+
+    private int amenities = 60;
+
+    // Показатель закона Ципфа для брендов, городов и стран: 1.0 - первый в 2 раза популярнее второго
+    private double zipfExponent = 1.1;
+
+    // Показатель степенного распределения числа amenities у отеля (> 1): чем больше, тем реже длинный хвост
+    private double amenityCountExponent = 2.5;
+
+    private int maxAmenitiesPerHotel = 30;
+
+    // Отелей в одной транзакции с batch insert
+    private int batchSize = 5_000;
+}
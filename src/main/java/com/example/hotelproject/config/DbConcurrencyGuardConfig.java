@@ -0,0 +1,81 @@
+package com.example.hotelproject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Guards JDBC access when requests run on virtual threads (spring.threads.virtual.enabled=true).
+ * Every Hikari pool is wrapped in a {@link ConcurrencyLimitingDataSource} sized to the pool,
+ * so excess virtual threads park on a semaphore instead of piling onto the pool.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "hotel.db-guard", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DbConcurrencyGuardConfig {
+
+    @Bean
+    static BeanPostProcessor dbConcurrencyGuardPostProcessor() {
+        return new DbConcurrencyGuardPostProcessor();
+    }
+
+    @Bean
+    MeterBinder dbConcurrencyGuardMetrics(DataSource dataSource) {
+        return registry -> {
+            ConcurrencyLimitingDataSource guard = unwrapGuard(dataSource);
+            if (guard == null) {
+                return;
+            }
+            Gauge.builder("hotel.db.guard.limit", guard, ConcurrencyLimitingDataSource::getLimit)
+                    .register(registry);
+            Gauge.builder("hotel.db.guard.available", guard, ConcurrencyLimitingDataSource::getAvailablePermits)
+                    .register(registry);
+            Gauge.builder("hotel.db.guard.waiting", guard, ConcurrencyLimitingDataSource::getWaitingThreads)
+                    .description("Threads waiting for a database connection permit")
+                    .register(registry);
+        };
+    }
+
+    static ConcurrencyLimitingDataSource unwrapGuard(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConcurrencyLimitingDataSource.class)
+                    ? dataSource.unwrap(ConcurrencyLimitingDataSource.class)
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    // Наивысший приоритет: ограничитель оборачивает сам пул раньше всех остальных BeanPostProcessor'ов,
+    // а квоты нагрузки, счётчик запросов и журнал медленных запросов (не Ordered) оборачивают уже его
+    static class DbConcurrencyGuardPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                log.info("Limiting concurrent use of data source '{}' to {} connections", beanName, hikari.getMaximumPoolSize());
+                return new ConcurrencyLimitingDataSource(hikari, hikari.getMaximumPoolSize(),
+                        Duration.ofMillis(hikari.getConnectionTimeout()));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.hotelproject.config;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.time.Duration;
+
+/**
+ * JpaTransactionManager that limits the transaction timeout by the time left until the request
+ * deadline. Spring passes the timeout to every query as the jakarta.persistence.query.timeout
+ * hint and Hibernate to JDBC as Statement.setQueryTimeout, so the database cancels a statement
+ * that outlives the request. The timeout has a granularity of one second (rounded up).
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        Duration remaining = RequestDeadline.remaining();
+        if (remaining == null) {
+            return timeout;
+        }
+        if (remaining.isNegative() || remaining.isZero()) {
+            // TransactionException, чтобы doBegin не завернул его в CannotCreateTransactionException
+            throw new TransactionTimedOutException("Request deadline exceeded before the transaction started");
+        }
+
+        int remainingSeconds = (int) Math.max(1, (remaining.toMillis() + 999) / 1000);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(timeout, remainingSeconds);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-endpoint request deadlines (hotel.deadline.enabled, on by default) propagated to
+ * transaction and JDBC statement timeouts. Replaces the auto-configured JpaTransactionManager.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "hotel.deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+    @Bean
+    PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        DeadlineAwareJpaTransactionManager transactionManager = new DeadlineAwareJpaTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    WebMvcConfigurer deadlineWebMvcConfigurer(DeadlineProperties properties, MeterRegistry meterRegistry) {
+        DeadlineInterceptor interceptor = new DeadlineInterceptor(properties, meterRegistry);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/property-view/**");
+            }
+        };
+    }
+}
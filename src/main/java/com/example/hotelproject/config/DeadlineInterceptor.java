@@ -0,0 +1,42 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Starts the deadline of a REST request from the timeout configured for its endpoint and
+ * counts requests that ended with 504 (hotel.deadline.exceeded).
+ */
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    private final DeadlineProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public DeadlineInterceptor(DeadlineProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestDeadline.start(properties.timeoutOf(handlerMethod.getMethod().getName()));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        RequestDeadline.clear();
+        if (response.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value()) {
+            meterRegistry.counter("hotel.deadline.exceeded", "endpoint", handlerMethod.getMethod().getName()).increment();
+        }
+    }
+}
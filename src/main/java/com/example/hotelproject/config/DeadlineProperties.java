@@ -0,0 +1,30 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint request deadlines (hotel.deadline.*), keyed by the HotelController method name.
+ * Example: hotel.deadline.endpoints[searchHotels]=2s
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.deadline")
+public class DeadlineProperties {
+
+    private boolean enabled = true;
+
+    // Дедлайн эндпоинтов, не указанных в endpoints
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    private Map<String, Duration> endpoints = new HashMap<>();
+
+    public Duration timeoutOf(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultTimeout);
+    }
+}
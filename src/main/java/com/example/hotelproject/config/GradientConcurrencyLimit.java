@@ -0,0 +1,80 @@
+package com.example.hotelproject.config;
+
+/**
+ * Gradient-based concurrency limit (the approach of Netflix concurrency-limits' Gradient2).
+ * Latency is averaged over windows of requests and compared with a long-term average of the
+ * same latency. While latency stays within the tolerance the limit grows by about sqrt(limit)
+ * per window; when latency rises, i.e. requests start queuing in the database, the limit is
+ * reduced proportionally to the gradient (at most halved per window).
+ */
+public class GradientConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int windowSize;
+    private final double longWindowFactor;
+
+    private double estimatedLimit;
+    private double longRtt;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInflight;
+    private volatile int limit;
+
+    public GradientConcurrencyLimit(AdaptiveLimitProperties properties) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.tolerance = properties.getTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.windowSize = properties.getWindowSize();
+        this.longWindowFactor = 2.0 / (properties.getLongWindow() + 1);
+        this.estimatedLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    // Задержка одного успешно обработанного запроса и число запросов в работе на момент его начала
+    public synchronized void onSample(long rttNanos, int inflight) {
+        windowRttSum += rttNanos;
+        windowCount++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflight);
+        if (windowCount < windowSize) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInflight = windowMaxInflight;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInflight = 0;
+        updateLimit(shortRtt, maxInflight);
+    }
+
+    private void updateLimit(double shortRtt, int maxInflight) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+            return;
+        }
+        longRtt += (shortRtt - longRtt) * longWindowFactor;
+        // После спада нагрузки базовая задержка быстрее возвращается к новой норме
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Нагрузка ниже половины лимита ничего не говорит о его правильности
+        if (maxInflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
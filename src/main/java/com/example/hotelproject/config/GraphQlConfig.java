@@ -0,0 +1,59 @@
+package com.example.hotelproject.config;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.DataFetcherExceptionResolver;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+
+/**
+ * Protects the database from expensive GraphQL queries: limits query depth and complexity
+ * before execution and reports invalid arguments as BAD_REQUEST errors.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    private static final String HOTELS_FIELD = "hotels";
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(GraphQlLimitsProperties properties) {
+        return new MaxQueryDepthInstrumentation(properties.getMaxDepth());
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(GraphQlLimitsProperties properties) {
+        // Каждый отель страницы загружает все вложенные поля, поэтому их стоимость умножается на first
+        FieldComplexityCalculator calculator = (environment, childComplexity) -> {
+            if (HOTELS_FIELD.equals(environment.getField().getName())) {
+                int pageSize = environment.getArguments().get("first") instanceof Integer first
+                        ? first
+                        : properties.getDefaultPageSize();
+                return pageSize * (1 + childComplexity);
+            }
+            return 1 + childComplexity;
+        };
+        return new MaxQueryComplexityInstrumentation(properties.getMaxComplexity(), calculator);
+    }
+
+    @Bean
+    public DataFetcherExceptionResolver graphQlExceptionResolver() {
+        return new DataFetcherExceptionResolverAdapter() {
+            @Override
+            protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+                if (ex instanceof IllegalArgumentException) {
+                    return GraphqlErrorBuilder.newError(env)
+                            .errorType(ErrorType.BAD_REQUEST)
+                            .message(ex.getMessage())
+                            .build();
+                }
+                return null;
+            }
+        };
+    }
+}
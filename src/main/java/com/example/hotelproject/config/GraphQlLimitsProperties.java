@@ -0,0 +1,26 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits of the GraphQL read API (hotel.graphql.*) that keep a single query from loading
+ * the whole database.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.graphql")
+public class GraphQlLimitsProperties {
+
+    // Максимальная вложенность полей запроса
+    private int maxDepth = 6;
+
+    // Максимальная стоимость запроса: поле стоит 1, поля внутри hotels умножаются на размер страницы
+    private int maxComplexity = 1000;
+
+    // Размер страницы hotels, если first не задан
+    private int defaultPageSize = 20;
+
+    private int maxPageSize = 100;
+}
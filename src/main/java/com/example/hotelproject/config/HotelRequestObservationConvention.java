@@ -0,0 +1,62 @@
+package com.example.hotelproject.config;
+
+import com.example.hotelproject.service.HistogramParameter;
+import com.example.hotelproject.service.SearchMode;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds the handler method, the search mode of GET /search and the parameter of GET /histogram/{param}
+ * to the http.server.requests metrics. Every request gets all three tags ("none" when not applicable),
+ * because Prometheus requires the same set of tags for all series of a metric.
+ */
+public class HotelRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String NONE = "none";
+    static final String INVALID = "invalid";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        HttpServletRequest request = context.getCarrier();
+        // Атрибуты обработчика появляются после выбора метода контроллера, т.е. к концу наблюдения
+        String handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod method
+                ? method.getMethod().getName() : NONE;
+        return super.getLowCardinalityKeyValues(context).and(
+                KeyValue.of("handler", handler),
+                KeyValue.of("search.mode", "searchHotels".equals(handler) ? searchModeOf(request) : NONE),
+                KeyValue.of("histogram.param", "getHotelHistogram".equals(handler) ? histogramParameterOf(request) : NONE));
+    }
+
+    private String searchModeOf(HttpServletRequest request) {
+        SearchMode mode = SearchMode.of(request.getParameter("name"), values(request, "brand"), values(request, "city"),
+                values(request, "country"), values(request, "amenity"));
+        return mode != null ? mode.tag() : NONE;
+    }
+
+    private String histogramParameterOf(HttpServletRequest request) {
+        if (!(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables)
+                || !(variables.get("param") instanceof String param)) {
+            return NONE;
+        }
+        // Произвольные значения из URL не должны размножать временные ряды
+        try {
+            return HistogramParameter.of(param).tag();
+        } catch (IllegalArgumentException e) {
+            return INVALID;
+        }
+    }
+
+    private List<String> values(HttpServletRequest request, String name) {
+        String[] values = request.getParameterValues(name);
+        return values != null ? Arrays.asList(values) : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.hotelproject.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * On-demand JFR recordings (hotel.jfr.enabled, on by default) on /actuator/jfr, so a live pod
+ * can be profiled without shell access. Requests need "Authorization: Bearer ${hotel.jfr.token}".
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "hotel.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfig {
+
+    @Bean
+    JfrRecordings jfrRecordings(JfrProperties properties) {
+        return new JfrRecordings(properties);
+    }
+
+    @Bean
+    JfrEndpoint jfrEndpoint(JfrRecordings jfrRecordings, JfrProperties properties) {
+        return new JfrEndpoint(jfrRecordings, properties);
+    }
+
+    @Bean
+    FilterRegistrationBean<JfrTokenFilter> jfrTokenFilter(JfrProperties properties) {
+        FilterRegistrationBean<JfrTokenFilter> registration = new FilterRegistrationBean<>(new JfrTokenFilter(properties));
+        registration.addUrlPatterns("/actuator/jfr", "/actuator/jfr/*");
+        return registration;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.hotelproject.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Actuator endpoint /actuator/jfr, protected by {@link JfrTokenFilter}: POST starts a time-boxed
+ * recording ({"profile": "profile", "duration": "2m"}), GET lists recordings, GET /actuator/jfr/{id}
+ * downloads the finished .jfr file and DELETE /actuator/jfr/{id} removes it.
+ */
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final int STATUS_CONFLICT = 409;
+
+    private final JfrRecordings recordings;
+    private final JfrProperties properties;
+
+    public JfrEndpoint(JfrRecordings recordings, JfrProperties properties) {
+        this.recordings = recordings;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> recordings() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("profiles", properties.getProfiles());
+        result.put("maxDuration", properties.getMaxDuration());
+        result.put("maxConcurrent", properties.getMaxConcurrent());
+        result.put("maxDiskUsageBytes", properties.getMaxDiskUsage().toBytes());
+        result.put("recordings", recordings.getRecordings());
+        return result;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable String profile, @Nullable Duration duration) {
+        try {
+            return new WebEndpointResponse<>(recordings.start(profile, duration), WebEndpointResponse.STATUS_OK);
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(error(e), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(error(e), WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) {
+        try {
+            Optional<Path> file = recordings.getFile(id);
+            return file.<WebEndpointResponse<Resource>>map(path -> new WebEndpointResponse<>(new FileSystemResource(path)))
+                    .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+        } catch (IllegalStateException e) {
+            // Запись ещё идёт - файл появится после её окончания
+            return new WebEndpointResponse<>(STATUS_CONFLICT);
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> delete(@Selector long id) {
+        return new WebEndpointResponse<>(recordings.delete(id) ? WebEndpointResponse.STATUS_NO_CONTENT : WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    private static Map<String, String> error(RuntimeException e) {
+        return Map.of("error", e.getMessage());
+    }
+}
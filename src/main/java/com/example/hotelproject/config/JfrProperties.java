@@ -0,0 +1,43 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * On-demand JFR recordings (hotel.jfr.*), started and downloaded through /actuator/jfr.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.jfr")
+public class JfrProperties {
+
+    private boolean enabled = true;
+
+    // Bearer-токен для /actuator/jfr; пока он не задан, эндпоинт отвечает 403
+    private String token;
+
+    // Каталог для файлов .jfr; файлы hotel-*.jfr в нём принадлежат эндпоинту
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "hotel-jfr");
+
+    // Настройки JFR из $JAVA_HOME/lib/jfr: default (~1% накладных расходов) и profile (~2%)
+    private List<String> profiles = new ArrayList<>(List.of("default", "profile"));
+
+    private Duration defaultDuration = Duration.ofSeconds(60);
+
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    private int maxConcurrent = 1;
+
+    // Ограничение размера одной записи; старые события отбрасываются
+    private DataSize maxRecordingSize = DataSize.ofMegabytes(100);
+
+    // Законченные записи плюс резерв под идущие; при нехватке удаляются самые старые файлы
+    private DataSize maxDiskUsage = DataSize.ofMegabytes(500);
+}
@@ -0,0 +1,15 @@
+package com.example.hotelproject.config;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Recording made by {@link JfrRecordings}; the file can be downloaded once the state is STOPPED.
+ */
+public record JfrRecordingInfo(long id,
+                               String profile,
+                               String state,
+                               Instant startTime,
+                               Duration duration,
+                               long sizeBytes) {
+}
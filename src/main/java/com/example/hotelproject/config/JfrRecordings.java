@@ -0,0 +1,214 @@
+package com.example.hotelproject.config;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-boxed JFR recordings started on demand. Each recording stops by itself after its duration
+ * and is written to a file in hotel.jfr.directory. The number of running recordings and the disk
+ * space of the files are limited: a running recording reserves hotel.jfr.max-recording-size, and
+ * the oldest finished files are deleted to make room for a new one.
+ */
+@Slf4j
+public class JfrRecordings implements DisposableBean {
+
+    private static final String FILE_PREFIX = "hotel-";
+
+    private final JfrProperties properties;
+    private final Map<Long, Entry> entries = new LinkedHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    public JfrRecordings(JfrProperties properties) {
+        this.properties = properties;
+        try {
+            Files.createDirectories(properties.getDirectory());
+            deleteLeftovers(properties.getDirectory());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare JFR directory " + properties.getDirectory(), e);
+        }
+    }
+
+    /**
+     * Starts a recording; throws IllegalArgumentException for an unknown profile or a duration
+     * above the limit and IllegalStateException when the concurrency or disk limit is reached.
+     */
+    public synchronized JfrRecordingInfo start(String profile, Duration duration) {
+        String settings = profile != null ? profile : properties.getProfiles().getFirst();
+        if (!properties.getProfiles().contains(settings)) {
+            throw new IllegalArgumentException("Unknown profile: " + settings + ", allowed: " + properties.getProfiles());
+        }
+        Duration length = duration != null ? duration : properties.getDefaultDuration();
+        if (length.isNegative() || length.isZero() || length.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException("Duration must be positive and at most " + properties.getMaxDuration());
+        }
+
+        refresh();
+        long running = entries.values().stream().filter(Entry::isRunning).count();
+        if (running >= properties.getMaxConcurrent()) {
+            throw new IllegalStateException("Too many running recordings: " + running);
+        }
+        long reserved = properties.getMaxRecordingSize().toBytes();
+        if (!freeDiskSpace(reserved)) {
+            throw new IllegalStateException("JFR disk usage limit " + properties.getMaxDiskUsage() + " reached");
+        }
+
+        long id = ids.incrementAndGet();
+        Path file = properties.getDirectory().resolve(FILE_PREFIX + id + ".jfr");
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("hotel-" + id);
+            recording.setToDisk(true);
+            recording.setMaxSize(reserved);
+            recording.setDuration(length);
+            recording.setDestination(file);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot prepare JFR recording with profile " + settings, e);
+        }
+        recording.start();
+
+        Entry entry = new Entry(id, settings, Instant.now(), length, file, recording);
+        entries.put(id, entry);
+        log.info("Started JFR recording {}: profile={}, duration={}", id, settings, length);
+        return entry.info();
+    }
+
+    public synchronized List<JfrRecordingInfo> getRecordings() {
+        refresh();
+        return entries.values().stream().map(Entry::info).toList();
+    }
+
+    /**
+     * File of a finished recording; empty when the recording does not exist,
+     * IllegalStateException while it is still running.
+     */
+    public synchronized Optional<Path> getFile(long id) {
+        refresh();
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isRunning()) {
+            throw new IllegalStateException("Recording " + id + " is still running");
+        }
+        return Files.exists(entry.file) ? Optional.of(entry.file) : Optional.empty();
+    }
+
+    // Идущая запись останавливается без сохранения
+    public synchronized boolean delete(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        entry.recording.close();
+        deleteFile(entry.file);
+        log.info("Deleted JFR recording {}", id);
+        return true;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        entries.values().forEach(entry -> entry.recording.close());
+        entries.clear();
+    }
+
+    // Остановленные записи закрываем: файл уже записан, буферы JFR больше не нужны
+    private void refresh() {
+        for (Entry entry : entries.values()) {
+            if (entry.recording.getState() == RecordingState.STOPPED) {
+                entry.recording.close();
+            }
+        }
+    }
+
+    private boolean freeDiskSpace(long required) {
+        long limit = properties.getMaxDiskUsage().toBytes();
+        Iterator<Entry> oldest = entries.values().iterator();
+        while (usedDiskSpace() + required > limit) {
+            Entry entry = nextFinished(oldest);
+            if (entry == null) {
+                return false;
+            }
+            oldest.remove();
+            deleteFile(entry.file);
+            log.info("Deleted JFR recording {} to stay within {}", entry.id, properties.getMaxDiskUsage());
+        }
+        return true;
+    }
+
+    private Entry nextFinished(Iterator<Entry> entries) {
+        while (entries.hasNext()) {
+            Entry entry = entries.next();
+            if (!entry.isRunning()) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private long usedDiskSpace() {
+        long reserved = properties.getMaxRecordingSize().toBytes();
+        return entries.values().stream()
+                .mapToLong(entry -> entry.isRunning() ? reserved : entry.size())
+                .sum();
+    }
+
+    private void deleteLeftovers(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*.jfr")) {
+            List<Path> leftovers = new ArrayList<>();
+            files.forEach(leftovers::add);
+            leftovers.forEach(this::deleteFile);
+            if (!leftovers.isEmpty()) {
+                log.info("Deleted {} JFR recordings left from a previous run in {}", leftovers.size(), directory);
+            }
+        }
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Cannot delete JFR file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private record Entry(long id, String profile, Instant startTime, Duration duration, Path file, Recording recording) {
+
+        boolean isRunning() {
+            RecordingState state = recording.getState();
+            return state == RecordingState.NEW || state == RecordingState.DELAYED || state == RecordingState.RUNNING;
+        }
+
+        long size() {
+            try {
+                return Files.exists(file) ? Files.size(file) : 0;
+            } catch (IOException e) {
+                return 0;
+            }
+        }
+
+        JfrRecordingInfo info() {
+            return new JfrRecordingInfo(id, profile, isRunning() ? RecordingState.RUNNING.name() : RecordingState.STOPPED.name(),
+                    startTime, duration, isRunning() ? 0 : size());
+        }
+    }
+}
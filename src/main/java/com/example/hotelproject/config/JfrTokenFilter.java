@@ -0,0 +1,53 @@
+package com.example.hotelproject.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Bearer token check for /actuator/jfr: recordings expose stack traces and arguments of live
+ * requests, so the endpoint is closed (403) until hotel.jfr.token is configured.
+ */
+@Slf4j
+public class JfrTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JfrProperties properties;
+
+    public JfrTokenFilter(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = properties.getToken();
+        if (!StringUtils.hasText(token)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "hotel.jfr.token is not configured");
+            return;
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER) || !matches(authorization.substring(BEARER.length()), token)) {
+            log.warn("Rejected {} {} from {}: invalid JFR token", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // Сравнение за постоянное время, чтобы токен нельзя было подобрать по времени ответа
+    private static boolean matches(String presented, String token) {
+        return MessageDigest.isEqual(presented.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+}
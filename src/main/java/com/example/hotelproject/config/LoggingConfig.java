@@ -0,0 +1,21 @@
+package com.example.hotelproject.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Request log correlation: {@link RequestIdFilter} runs before all other filters, so their log
+ * lines carry the request id too. Appenders and SQL log sampling are set up in logback-spring.xml.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LoggingConfig {
+
+    @Bean
+    FilterRegistrationBean<RequestIdFilter> requestIdFilter() {
+        FilterRegistrationBean<RequestIdFilter> registration = new FilterRegistrationBean<>(new RequestIdFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
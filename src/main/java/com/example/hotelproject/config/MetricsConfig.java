@@ -0,0 +1,51 @@
+package com.example.hotelproject.config;
+
+import com.example.hotelproject.repository.HotelRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * Domain metrics exported on /actuator/prometheus: request timers tagged with the handler method,
+ * search mode and histogram parameter, and timers and row counts of {@link HotelRepository} methods.
+ * Hibernate statistics and Hikari pool metrics are bound by Spring Boot (see application.properties).
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    @Bean
+    ServerRequestObservationConvention hotelRequestObservationConvention() {
+        return new HotelRequestObservationConvention();
+    }
+
+    @Bean
+    static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryMetricsPostProcessor(meterRegistry);
+    }
+
+    // Совет добавляется в прокси репозитория при его создании фабрикой Spring Data
+    static class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor((proxy, information) -> {
+                    if (HotelRepository.class.equals(information.getRepositoryInterface())) {
+                        proxy.addAdvice(new RepositoryMetricsInterceptor(HotelRepository.class.getSimpleName(), meterRegistry.getObject()));
+                    }
+                }));
+            }
+            return bean;
+        }
+    }
+}
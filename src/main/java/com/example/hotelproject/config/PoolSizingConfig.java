@@ -0,0 +1,61 @@
+package com.example.hotelproject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Self-tuning size of the application connection pool (hotel.pool-sizing.enabled, on by default).
+ * The pool is found by unwrapping the application DataSource; with replica routing or sharding there is
+ * no single pool behind it, the controller is not created and the endpoint reports sizing as inactive.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "hotel.pool-sizing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PoolSizingConfig {
+
+    @Bean(destroyMethod = "close")
+    @Conditional(SingleConnectionPoolCondition.class)
+    PoolSizingController poolSizingController(DataSource dataSource,
+                                              PoolSizingProperties properties,
+                                              MeterRegistry meterRegistry) throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            throw new IllegalStateException("Connection pool sizing requires a Hikari pool behind the application DataSource;"
+                    + " set hotel.pool-sizing.enabled=false");
+        }
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        log.info("Connection pool '{}' is sized automatically between {} and {} connections",
+                pool.getPoolName(), properties.getMinSize(), properties.getMaxSize());
+        return new PoolSizingController(pool, DbConcurrencyGuardConfig.unwrapGuard(dataSource), properties, meterRegistry, true);
+    }
+
+    @Bean
+    PoolSizingEndpoint poolSizingEndpoint(ObjectProvider<PoolSizingController> poolSizingController) {
+        return new PoolSizingEndpoint(poolSizingController);
+    }
+
+    // Один пул за DataSource приложения есть, только когда нет маршрутизации на реплики и шардирования
+    static class SingleConnectionPoolCondition extends NoneNestedConditions {
+
+        SingleConnectionPoolCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(prefix = "hotel.datasource.routing", name = "enabled", havingValue = "true")
+        static class ReplicaRouting {
+        }
+
+        @ConditionalOnProperty(prefix = "hotel.sharding", name = "enabled", havingValue = "true")
+        static class Sharding {
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.hotelproject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes a Hikari pool within configured bounds from what it observes every interval:
+ * threads waiting for a connection, the average acquire wait (hikaricp.connections.acquire) and
+ * the average time a connection is held (hikaricp.connections.usage, i.e. query latency).
+ * <ul>
+ *     <li>requests wait for connections - the pool grows by one step;</li>
+ *     <li>query latency grew beyond the tolerance since the pool started growing - the database
+ *     itself is saturated, the pool shrinks back by one step and does not grow past that size again
+ *     until the load drops;</li>
+ *     <li>utilization stays low for several intervals - the pool shrinks by one step.</li>
+ * </ul>
+ * After every resize the controller holds until the pool has reached the new size (at most
+ * settle-intervals intervals), so it never decides twice on measurements of the old size.
+ * The concurrency guard in front of the pool, if any, is resized together with it.
+ */
+@Slf4j
+public class PoolSizingController implements AutoCloseable {
+
+    private final HikariDataSource pool;
+    private final ConcurrencyLimitingDataSource guard;
+    private final PoolSizingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Deque<PoolSizingDecision> decisions = new ArrayDeque<>();
+    private final ScheduledExecutorService scheduler;
+
+    private final TimerDelta acquireWait = new TimerDelta();
+    private final TimerDelta usage = new TimerDelta();
+    private double baselineUsageMillis;
+    private int lowUtilizationIntervals;
+    private int intervalsSinceResize;
+    // Размер, выше которого пул не растёт после насыщения БД; 0 - ограничения нет
+    private int saturationCeiling;
+
+    public PoolSizingController(HikariDataSource pool,
+                                ConcurrencyLimitingDataSource guard,
+                                PoolSizingProperties properties,
+                                MeterRegistry meterRegistry,
+                                boolean scheduled) {
+        this.pool = pool;
+        this.guard = guard;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.intervalsSinceResize = properties.getSettleIntervals();
+        if (scheduled) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("hotel-pool-sizing")
+                    .daemon(true)
+                    .factory());
+            long interval = properties.getInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::safeAdjust, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    private void safeAdjust() {
+        try {
+            adjust();
+        } catch (RuntimeException ex) {
+            log.warn("Pool sizing of '{}' failed: {}", pool.getPoolName(), ex.getMessage());
+        }
+    }
+
+    // Один шаг регулятора; возвращает решение или null, если размер не изменился
+    public synchronized PoolSizingDecision adjust() {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null) {
+            return null;
+        }
+        int size = getCurrentSize();
+        int active = mxBean.getActiveConnections();
+        int idle = mxBean.getIdleConnections();
+        int waiting = mxBean.getThreadsAwaitingConnection();
+        double avgWaitMillis = averageAcquireMillis();
+        double avgUsageMillis = averageUsageMillis();
+
+        // Замеры первого интервала после изменения размера относятся к старому размеру, а при уменьшении
+        // Hikari закрывает лишние соединения, только когда их вернут в пул: пока пул не дошёл до нового
+        // размера, решение по этим замерам снова уменьшило бы пул
+        if (intervalsSinceResize < properties.getSettleIntervals()) {
+            intervalsSinceResize++;
+            if (intervalsSinceResize == 1 || mxBean.getTotalConnections() > size) {
+                return null;
+            }
+        }
+
+        boolean contention = waiting > 0 || avgWaitMillis > properties.getTargetWait().toNanos() / 1_000_000.0;
+        if (contention && avgUsageMillis > 0 && (baselineUsageMillis == 0 || avgUsageMillis < baselineUsageMillis)) {
+            baselineUsageMillis = avgUsageMillis;
+        }
+
+        int newSize = size;
+        String reason = null;
+        if (contention) {
+            lowUtilizationIntervals = 0;
+            if (baselineUsageMillis > 0 && avgUsageMillis > baselineUsageMillis * properties.getLatencyTolerance()) {
+                newSize = Math.max(properties.getMinSize(), size - properties.getStep());
+                reason = String.format("query latency %.1f ms exceeds %.1fx of baseline %.1f ms, database is saturated",
+                        avgUsageMillis, properties.getLatencyTolerance(), baselineUsageMillis);
+                // Пул не возвращается к размеру, на котором БД насытилась; базовая задержка измеряется
+                // заново на новом размере
+                saturationCeiling = newSize;
+                baselineUsageMillis = 0;
+            } else {
+                int maxSize = saturationCeiling > 0 ? saturationCeiling : properties.getMaxSize();
+                newSize = Math.max(size, Math.min(maxSize, size + properties.getStep()));
+                reason = String.format("%d threads waiting, average acquire wait %.1f ms", waiting, avgWaitMillis);
+            }
+        } else if (active < size * properties.getShrinkUtilization()) {
+            if (++lowUtilizationIntervals >= properties.getShrinkAfter()) {
+                lowUtilizationIntervals = 0;
+                // После спада нагрузки базовая задержка и предел роста определяются заново
+                baselineUsageMillis = 0;
+                saturationCeiling = 0;
+                newSize = Math.max(properties.getMinSize(), size - properties.getStep());
+                reason = String.format("only %d of %d connections active for %d intervals",
+                        active, size, properties.getShrinkAfter());
+            }
+        } else {
+            lowUtilizationIntervals = 0;
+        }
+
+        if (newSize == size) {
+            return null;
+        }
+        resize(newSize);
+        intervalsSinceResize = 0;
+        PoolSizingDecision decision = new PoolSizingDecision(Instant.now(), size, newSize, reason,
+                active, idle, waiting, avgWaitMillis, avgUsageMillis);
+        record(decision);
+        log.info("Connection pool '{}' resized {} -> {}: {}", pool.getPoolName(), size, newSize, reason);
+        return decision;
+    }
+
+    private void resize(int newSize) {
+        pool.getHikariConfigMXBean().setMaximumPoolSize(newSize);
+        // Иначе Hikari будет держать minimumIdle соединений сверх нового размера
+        if (pool.getHikariConfigMXBean().getMinimumIdle() > newSize) {
+            pool.getHikariConfigMXBean().setMinimumIdle(newSize);
+        }
+        if (guard != null) {
+            guard.resize(newSize);
+        }
+    }
+
+    private void record(PoolSizingDecision decision) {
+        decisions.addLast(decision);
+        while (decisions.size() > properties.getHistory()) {
+            decisions.removeFirst();
+        }
+    }
+
+    private double averageAcquireMillis() {
+        return acquireWait.averageMillisSinceLastCall(meterRegistry.find("hikaricp.connections.acquire")
+                .tag("pool", pool.getPoolName()).timer());
+    }
+
+    private double averageUsageMillis() {
+        return usage.averageMillisSinceLastCall(meterRegistry.find("hikaricp.connections.usage")
+                .tag("pool", pool.getPoolName()).timer());
+    }
+
+    public String getPoolName() {
+        return pool.getPoolName();
+    }
+
+    public int getCurrentSize() {
+        return pool.getHikariConfigMXBean().getMaximumPoolSize();
+    }
+
+    public PoolSizingProperties getProperties() {
+        return properties;
+    }
+
+    public synchronized List<PoolSizingDecision> getDecisions() {
+        return new ArrayList<>(decisions);
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // Среднее значение таймера за период с предыдущего вызова
+    private static class TimerDelta {
+
+        private long lastCount;
+        private double lastTotalNanos;
+
+        double averageMillisSinceLastCall(Timer timer) {
+            if (timer == null) {
+                return 0;
+            }
+            long count = timer.count();
+            double totalNanos = timer.totalTime(TimeUnit.NANOSECONDS);
+            double average = count > lastCount ? (totalNanos - lastTotalNanos) / (count - lastCount) / 1_000_000.0 : 0;
+            lastCount = count;
+            lastTotalNanos = totalNanos;
+            return average;
+        }
+    }
+}
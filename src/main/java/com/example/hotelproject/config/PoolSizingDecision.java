@@ -0,0 +1,17 @@
+package com.example.hotelproject.config;
+
+import java.time.Instant;
+
+/**
+ * One resize of the connection pool made by {@link PoolSizingController}, with the observations it was based on.
+ */
+public record PoolSizingDecision(Instant time,
+                                 int previousSize,
+                                 int newSize,
+                                 String reason,
+                                 int active,
+                                 int idle,
+                                 int waiting,
+                                 double avgWaitMillis,
+                                 double avgUsageMillis) {
+}
@@ -0,0 +1,37 @@
+package com.example.hotelproject.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint /actuator/poolsizing: current pool size, its bounds and the recent resize decisions.
+ */
+@Endpoint(id = "poolsizing")
+public class PoolSizingEndpoint {
+
+    private final ObjectProvider<PoolSizingController> controller;
+
+    public PoolSizingEndpoint(ObjectProvider<PoolSizingController> controller) {
+        this.controller = controller;
+    }
+
+    @ReadOperation
+    public Map<String, Object> poolSizing() {
+        PoolSizingController current = controller.getIfAvailable();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("active", current != null);
+        if (current == null) {
+            return result;
+        }
+        result.put("pool", current.getPoolName());
+        result.put("currentSize", current.getCurrentSize());
+        result.put("minSize", current.getProperties().getMinSize());
+        result.put("maxSize", current.getProperties().getMaxSize());
+        result.put("decisions", current.getDecisions());
+        return result;
+    }
+}
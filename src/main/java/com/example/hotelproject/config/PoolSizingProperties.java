@@ -0,0 +1,46 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bounds and thresholds of the self-tuning connection pool (hotel.pool-sizing.*).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.pool-sizing")
+public class PoolSizingProperties {
+
+    private boolean enabled = true;
+
+    private int minSize = 5;
+
+    private int maxSize = 50;
+
+    // На сколько соединений меняется пул за один шаг
+    private int step = 2;
+
+    private Duration interval = Duration.ofSeconds(10);
+
+    // Среднее ожидание соединения, выше которого пул считается недостаточным
+    private Duration targetWait = Duration.ofMillis(5);
+
+    // Во сколько раз может вырасти время использования соединения (время запросов) после роста пула;
+    // дальше считаем, что упёрлись в саму БД, и уменьшаем пул
+    private double latencyTolerance = 1.3;
+
+    // Доля занятых соединений, ниже которой пул уменьшается
+    private double shrinkUtilization = 0.5;
+
+    // Сколько интервалов подряд загрузка должна быть низкой для уменьшения пула
+    private int shrinkAfter = 3;
+
+    // Сколько интервалов после изменения размера регулятор ждёт, пока пул дойдёт до нового размера
+    private int settleIntervals = 3;
+
+    // Сколько последних решений хранить для actuator
+    private int history = 50;
+}
@@ -0,0 +1,26 @@
+package com.example.hotelproject.config;
+
+/**
+ * Marks the current thread as pinned to the primary database.
+ * Set by {@link ReadYourWritesFilter} for requests of clients that wrote recently, so their
+ * read-only transactions do not see a replica that has not caught up yet.
+ */
+public final class PrimaryPinning {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryPinning() {
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement counting (hotel.query-count.enabled, on by default) to catch N+1 queries:
+ * the application data source counts statements and rows into the {@link QueryCounter} of the request,
+ * {@link QueryCountFilter} checks them against the budget of the endpoint.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "hotel.query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountConfig {
+
+    @Bean
+    FilterRegistrationBean<QueryCountFilter> queryCountFilter(QueryCountProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(new QueryCountFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/property-view/*");
+        return registration;
+    }
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new QueryCountingDataSourcePostProcessor();
+    }
+
+    // Оборачиваем итоговый dataSource: при шардировании и репликах считаются запросы ко всем базам
+    static class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                log.info("Counting SQL statements per request on data source '{}'", beanName);
+                return new QueryCountingDataSource(dataSource);
+            }
+            return bean;
+        }
+    }
+}
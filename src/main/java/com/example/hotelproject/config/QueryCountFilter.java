@@ -0,0 +1,136 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Counts SQL statements and rows of every REST request. Requests above the statement budget of their
+ * endpoint are logged and counted (hotel.query.budget.exceeded); the number of statements per endpoint
+ * is recorded as hotel.request.statements. With hotel.query-count.expose-header the counts are also
+ * returned in X-Query-Count and X-Query-Rows, and X-Query-Budget-Exceeded marks requests over budget.
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String COUNT_HEADER = "X-Query-Count";
+    static final String ROWS_HEADER = "X-Query-Rows";
+    static final String BUDGET_EXCEEDED_HEADER = "X-Query-Budget-Exceeded";
+
+    private final QueryCountProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<DistributionSummary> statements;
+
+    public QueryCountFilter(QueryCountProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.statements = DistributionSummary.builder("hotel.request.statements")
+                .description("SQL statements executed per REST request")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10_000.0)
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter counter = QueryCounter.start();
+        CountHeaderResponse headerResponse = properties.isExposeHeader() ? new CountHeaderResponse(request, response, counter) : null;
+        try {
+            filterChain.doFilter(request, headerResponse != null ? headerResponse : response);
+        } finally {
+            QueryCounter.clear();
+            if (headerResponse != null) {
+                headerResponse.addCountHeaders();
+            }
+            String endpoint = endpointOf(request);
+            if (endpoint != null) {
+                statements.withTags("endpoint", endpoint).record(counter.statements());
+                if (counter.statements() > properties.budgetOf(endpoint)) {
+                    log.warn("Request {} {} ({}) exceeded its SQL budget of {}: {}", request.getMethod(),
+                            request.getRequestURI(), endpoint, properties.budgetOf(endpoint), counter);
+                    meterRegistry.counter("hotel.query.budget.exceeded", "endpoint", endpoint).increment();
+                }
+            }
+        }
+    }
+
+    // Имя метода HotelController; null - запрос не дошёл до контроллера
+    private static String endpointOf(HttpServletRequest request) {
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                ? handler.getMethod().getName() : null;
+    }
+
+    /**
+     * Adds the count headers right before the body is written: afterwards the response is committed
+     * and headers can no longer be changed. By then the controller has finished its queries.
+     */
+    private class CountHeaderResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final QueryCounter counter;
+        private boolean headersAdded;
+
+        CountHeaderResponse(HttpServletRequest request, HttpServletResponse response, QueryCounter counter) {
+            super(response);
+            this.request = request;
+            this.counter = counter;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCountHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCountHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCountHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addCountHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addCountHeaders();
+            super.sendError(sc, msg);
+        }
+
+        void addCountHeaders() {
+            if (headersAdded || isCommitted()) {
+                return;
+            }
+            headersAdded = true;
+            setHeader(COUNT_HEADER, String.valueOf(counter.statements()));
+            setHeader(ROWS_HEADER, String.valueOf(counter.rows()));
+            String endpoint = endpointOf(request);
+            if (endpoint != null && counter.statements() > properties.budgetOf(endpoint)) {
+                setHeader(BUDGET_EXCEEDED_HEADER, "true");
+            }
+        }
+    }
+}
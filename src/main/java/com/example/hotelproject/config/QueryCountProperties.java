@@ -0,0 +1,32 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statement budgets per REST request (hotel.query-count.*), keyed by the HotelController method name.
+ * Example: hotel.query-count.endpoints[getHotel]=8
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.query-count")
+public class QueryCountProperties {
+
+    private boolean enabled = true;
+
+    // Заголовки X-Query-Count / X-Query-Rows в ответе, только для отладки
+    private boolean exposeHeader = false;
+
+    // Бюджет эндпоинтов, не указанных в endpoints
+    private int defaultBudget = 20;
+
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int budgetOf(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.hotelproject.config;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Number of SQL statements executed and rows read on behalf of the current request.
+ * Started by {@link QueryCountFilter}, filled by {@link QueryCountingDataSource}; code that queries
+ * the database from other threads (shards, batch sub-queries) passes the same counter on with {@link #set}.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+
+    public static QueryCounter start() {
+        QueryCounter counter = new QueryCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    // null - запросы текущего потока не считаются
+    public static QueryCounter current() {
+        return CURRENT.get();
+    }
+
+    public static void set(QueryCounter counter) {
+        if (counter == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(counter);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public long statements() {
+        return statements.sum();
+    }
+
+    public long rows() {
+        return rows.sum();
+    }
+
+    public void reset() {
+        statements.reset();
+        rows.reset();
+    }
+
+    void recordStatement() {
+        statements.increment();
+    }
+
+    void recordRow() {
+        rows.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + statements() + ", rows=" + rows();
+    }
+}
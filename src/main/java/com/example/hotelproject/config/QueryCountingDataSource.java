@@ -0,0 +1,92 @@
+package com.example.hotelproject.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource that counts executed statements and rows read into the {@link QueryCounter} of the
+ * thread that runs them. Every execute* call of a statement is one statement (a JDBC batch is one
+ * round trip), every successful ResultSet.next() is one row. Threads without a counter pay only
+ * for the proxies.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countStatements(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countStatements(super.getConnection(username, password));
+    }
+
+    private Connection countStatements(Connection connection) {
+        return proxy(Connection.class, connection, (method, result) -> {
+            // createStatement, prepareStatement, prepareCall
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return countExecutions(method.getReturnType(), statement);
+            }
+            return result;
+        });
+    }
+
+    private Object countExecutions(Class<?> type, Statement statement) {
+        return proxy(type, statement, (method, result) -> {
+            if (method.getName().startsWith("execute")) {
+                QueryCounter counter = QueryCounter.current();
+                if (counter != null) {
+                    counter.recordStatement();
+                }
+            }
+            if (result instanceof ResultSet resultSet && method.getReturnType() == ResultSet.class) {
+                return countRows(resultSet);
+            }
+            return result;
+        });
+    }
+
+    private ResultSet countRows(ResultSet resultSet) {
+        QueryCounter counter = QueryCounter.current();
+        if (counter == null) {
+            return resultSet;
+        }
+        return proxy(ResultSet.class, resultSet, (method, result) -> {
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                counter.recordRow();
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, ResultHandler handler) {
+        return (T) Proxy.newProxyInstance(
+                QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    try {
+                        return handler.handle(method, method.invoke(target, args));
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Method method, Object result);
+    }
+}
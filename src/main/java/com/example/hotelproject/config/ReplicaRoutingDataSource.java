@@ -0,0 +1,180 @@
+package com.example.hotelproject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource for read-only transactions.
+ * Picks a healthy replica at random in proportion to its weight. Replicas that fail
+ * {@code failureThreshold} health checks (or a connection attempt) in a row are ejected until a
+ * check succeeds again. Falls back to the primary when no replica is available or the current
+ * thread is pinned to the primary (see {@link PrimaryPinning}).
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final String ROUTING_METRIC = "hotel.datasource.routing";
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final int failureThreshold;
+    private final Duration healthCheckTimeout;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<ReplicaNode> replicas,
+                                    ReplicaRoutingProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.failureThreshold = properties.getFailureThreshold();
+        this.healthCheckTimeout = properties.getHealthCheckTimeout();
+        this.meterRegistry = meterRegistry;
+        for (ReplicaNode replica : this.replicas) {
+            Gauge.builder("hotel.datasource.replica.healthy", replica, node -> node.isHealthy() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("replica-health-check")
+                .daemon(true)
+                .factory());
+        long interval = properties.getHealthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PrimaryPinning.isPinned()) {
+            return primaryConnection("sticky");
+        }
+
+        List<ReplicaNode> candidates = new ArrayList<>(replicas.size());
+        for (ReplicaNode replica : replicas) {
+            if (replica.isHealthy()) {
+                candidates.add(replica);
+            }
+        }
+        while (!candidates.isEmpty()) {
+            ReplicaNode replica = pickByWeight(candidates);
+            try {
+                Connection connection = replica.getDataSource().getConnection();
+                meterRegistry.counter(ROUTING_METRIC, "target", replica.getName(), "reason", "read-only").increment();
+                return connection;
+            } catch (SQLException ex) {
+                log.warn("Could not get connection from replica '{}': {}", replica.getName(), ex.getMessage());
+                recordFailure(replica);
+                candidates.remove(replica);
+            }
+        }
+        return primaryConnection("no-healthy-replica");
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Учётные данные реплик неизвестны вызывающему: соединение с явными учётными данными берётся у primary
+        meterRegistry.counter(ROUTING_METRIC, "target", "primary", "reason", "credentials").increment();
+        return primary.getConnection(username, password);
+    }
+
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+
+    private Connection primaryConnection(String reason) throws SQLException {
+        meterRegistry.counter(ROUTING_METRIC, "target", "primary", "reason", reason).increment();
+        return primary.getConnection();
+    }
+
+    private ReplicaNode pickByWeight(List<ReplicaNode> candidates) {
+        int totalWeight = 0;
+        for (ReplicaNode candidate : candidates) {
+            totalWeight += candidate.getWeight();
+        }
+        int point = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (ReplicaNode candidate : candidates) {
+            point -= candidate.getWeight();
+            if (point < 0) {
+                return candidate;
+            }
+        }
+        return candidates.getLast();
+    }
+
+    void checkReplicas() {
+        for (ReplicaNode replica : replicas) {
+            boolean valid;
+            try (Connection connection = replica.getDataSource().getConnection()) {
+                valid = connection.isValid((int) Math.max(1, healthCheckTimeout.toSeconds()));
+            } catch (SQLException | RuntimeException ex) {
+                valid = false;
+            }
+            if (valid) {
+                recordSuccess(replica);
+            } else {
+                recordFailure(replica);
+            }
+        }
+    }
+
+    private void recordSuccess(ReplicaNode replica) {
+        replica.consecutiveFailures.set(0);
+        if (!replica.healthy) {
+            replica.healthy = true;
+            log.info("Replica '{}' is healthy again and returns to load balancing", replica.getName());
+        }
+    }
+
+    private void recordFailure(ReplicaNode replica) {
+        if (replica.consecutiveFailures.incrementAndGet() >= failureThreshold && replica.healthy) {
+            replica.healthy = false;
+            meterRegistry.counter("hotel.datasource.replica.ejections", "replica", replica.getName()).increment();
+            log.warn("Replica '{}' ejected from load balancing after {} failures", replica.getName(), failureThreshold);
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        for (ReplicaNode replica : replicas) {
+            replica.getDataSource().close();
+        }
+    }
+
+    @Getter
+    public static class ReplicaNode {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final int weight;
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile boolean healthy = true;
+
+        public ReplicaNode(String name, HikariDataSource dataSource, int weight) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("Replica weight must be positive: " + name);
+            }
+            this.name = name;
+            this.dataSource = dataSource;
+            this.weight = weight;
+        }
+    }
+}
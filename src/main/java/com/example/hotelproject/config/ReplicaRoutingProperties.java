@@ -0,0 +1,52 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of read-replica routing.
+ * When enabled, read-only transactions go to one of the replicas, everything else to the primary
+ * configured by spring.datasource.*.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Сколько после записи клиента его чтения идут в primary (read-your-writes)
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+
+    // Число подряд неудачных проверок, после которого реплика исключается из балансировки
+    private int failureThreshold = 2;
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        // Доля запросов относительно других реплик
+        private int weight = 1;
+
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.hotelproject.config;
+
+/**
+ * Repository method (for example "HotelRepository.findByCity") executing on the current thread.
+ * Set by {@link RepositoryMetricsInterceptor} and read by {@link SlowQueryDataSource}.
+ */
+public final class RepositoryMethodContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryMethodContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static void set(String method) {
+        if (method == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(method);
+        }
+    }
+}
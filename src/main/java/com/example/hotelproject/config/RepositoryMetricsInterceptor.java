@@ -0,0 +1,83 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency (hotel.repository.invocations) and the number of returned rows
+ * (hotel.repository.rows) of every repository method call, with percentile histograms.
+ * A single entity or scalar counts as one row, an empty Optional or null as none.
+ * The running method is published in {@link RepositoryMethodContext} for the slow query log.
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final String repository;
+    private final Meter.MeterProvider<Timer> timers;
+    private final Meter.MeterProvider<DistributionSummary> rows;
+
+    public RepositoryMetricsInterceptor(String repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.timers = Timer.builder("hotel.repository.invocations")
+                .description("Duration of repository method calls")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .withRegistry(meterRegistry);
+        this.rows = DistributionSummary.builder("hotel.repository.rows")
+                .description("Rows returned by repository method calls")
+                .baseUnit("rows")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1_000_000.0)
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String method = invocation.getMethod().getName();
+        // Вложенные вызовы репозиториев восстанавливают метод внешнего вызова
+        String outerMethod = RepositoryMethodContext.current();
+        RepositoryMethodContext.set(repository + "." + method);
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            Object result = invocation.proceed();
+            rows.withTags("repository", repository, "method", method).record(rowsOf(result));
+            return result;
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            RepositoryMethodContext.set(outerMethod);
+            timers.withTags("repository", repository, "method", method, "outcome", outcome)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static long rowsOf(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Iterable<?> iterable) {
+            long count = 0;
+            for (Object ignored : iterable) {
+                count++;
+            }
+            return count;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.hotelproject.config;
+
+import java.time.Duration;
+
+/**
+ * Deadline of the request handled by the current thread.
+ * Set by {@link DeadlineInterceptor}; {@link DeadlineAwareJpaTransactionManager} turns the time
+ * left into the transaction timeout, which Spring and Hibernate apply to every JDBC statement.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(Duration timeout) {
+        DEADLINE_NANOS.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    // Момент дедлайна по System.nanoTime(); нужен, чтобы передать тот же дедлайн в другие потоки
+    public static Long current() {
+        return DEADLINE_NANOS.get();
+    }
+
+    public static void set(Long deadlineNanos) {
+        if (deadlineNanos == null) {
+            DEADLINE_NANOS.remove();
+        } else {
+            DEADLINE_NANOS.set(deadlineNanos);
+        }
+    }
+
+    // null - у текущего потока нет дедлайна
+    public static Duration remaining() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? null : Duration.ofNanos(deadline - System.nanoTime());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Per-request allocation and CPU accounting (hotel.resource-accounting.enabled, on by default)
+ * for the REST API, see {@link ResourceAccountingFilter}.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "hotel.resource-accounting", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResourceAccountingConfig {
+
+    @Bean
+    FilterRegistrationBean<ResourceAccountingFilter> resourceAccountingFilter(ResourceAccountingProperties properties,
+                                                                             MeterRegistry meterRegistry) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        // В HotSpot оба счётчика включены по умолчанию, но могут быть выключены через JMX
+        if (threads.isThreadAllocatedMemorySupported() && !threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        if (threads.isThreadCpuTimeSupported() && !threads.isThreadCpuTimeEnabled()) {
+            threads.setThreadCpuTimeEnabled(true);
+        }
+        log.info("Sampling allocation and CPU time of {}% of REST requests", properties.getSampleRate() * 100);
+
+        FilterRegistrationBean<ResourceAccountingFilter> registration = new FilterRegistrationBean<>(
+                new ResourceAccountingFilter(threads, properties.getSampleRate(), meterRegistry));
+        registration.addUrlPatterns("/property-view/*");
+        return registration;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples heap bytes allocated and CPU time consumed by the request thread (ThreadMXBean) and records
+ * them per endpoint as hotel.request.allocated and hotel.request.cpu, to find sources of GC pressure
+ * in production. Only the request thread is measured: work of parallel shard queries and batch
+ * queries on other threads is not included. Threads that do not support the counters (virtual
+ * threads) are skipped.
+ */
+public class ResourceAccountingFilter extends OncePerRequestFilter {
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final double sampleRate;
+    private final Meter.MeterProvider<DistributionSummary> allocated;
+    private final Meter.MeterProvider<Timer> cpu;
+
+    public ResourceAccountingFilter(com.sun.management.ThreadMXBean threads, double sampleRate, MeterRegistry meterRegistry) {
+        this.threads = threads;
+        this.sampleRate = sampleRate;
+        this.allocated = DistributionSummary.builder("hotel.request.allocated")
+                .description("Heap bytes allocated by the request thread per sampled REST request")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1024.0)
+                .maximumExpectedValue(1024.0 * 1024 * 1024)
+                .withRegistry(meterRegistry);
+        this.cpu = Timer.builder("hotel.request.cpu")
+                .description("CPU time of the request thread per sampled REST request")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // -1, если счётчик не поддерживается для текущего потока
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocatedAfter = threads.getCurrentThreadAllocatedBytes();
+            long cpuAfter = threads.getCurrentThreadCpuTime();
+            String endpoint = endpointOf(request);
+            if (endpoint != null) {
+                if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+                    allocated.withTags("endpoint", endpoint).record(allocatedAfter - allocatedBefore);
+                }
+                if (cpuBefore >= 0 && cpuAfter >= 0) {
+                    cpu.withTags("endpoint", endpoint).record(cpuAfter - cpuBefore, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
+    // Имя метода HotelController; null - запрос не дошёл до контроллера
+    private static String endpointOf(HttpServletRequest request) {
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                ? handler.getMethod().getName() : null;
+    }
+}
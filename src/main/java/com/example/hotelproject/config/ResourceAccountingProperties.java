@@ -0,0 +1,19 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request allocation and CPU accounting (hotel.resource-accounting.*), recorded per HotelController method.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.resource-accounting")
+public class ResourceAccountingProperties {
+
+    private boolean enabled = true;
+
+    // Доля измеряемых запросов: 1.0 - все, 0.1 - каждый десятый в среднем
+    private double sampleRate = 0.1;
+}
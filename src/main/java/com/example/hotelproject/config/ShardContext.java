@@ -0,0 +1,25 @@
+package com.example.hotelproject.config;
+
+/**
+ * Shard selected for the current thread; read by {@link ShardRoutingDataSource}.
+ * No shard means shard 0.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.hotelproject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes each connection to the shard stored in {@link ShardContext}; shard 0 by default.
+ * Owns the pools of the secondary shards and closes them on shutdown.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final List<HikariDataSource> secondaryShards;
+
+    public ShardRoutingDataSource(DataSource primaryShard, List<HikariDataSource> secondaryShards) {
+        this.secondaryShards = List.copyOf(secondaryShards);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(0, primaryShard);
+        for (int i = 0; i < secondaryShards.size(); i++) {
+            targets.put(i + 1, secondaryShards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primaryShard);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    @Override
+    public void close() {
+        secondaryShards.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.hotelproject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Country-based sharding (hotel.sharding.enabled=true).
+ * Each secondary shard gets the schema through Liquibase (context "secondary-shard", no seed data)
+ * and its own hotel id range starting at shard * {@link #SHARD_ID_RANGE}, so the shard of a hotel
+ * can be derived from its id.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "hotel.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    public static final long SHARD_ID_RANGE = 1_000_000_000_000L;
+
+    static final String SECONDARY_SHARD_CONTEXT = "secondary-shard";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource shard0DataSource(DataSourceProperties dataSourceProperties, ReplicaRoutingProperties replicaRoutingProperties) {
+        if (replicaRoutingProperties.isEnabled()) {
+            throw new IllegalStateException("hotel.sharding.enabled and hotel.datasource.routing.enabled cannot be used together");
+        }
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("shard-0");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    ShardRoutingDataSource shardRoutingDataSource(@Qualifier("shard0DataSource") DataSource shard0DataSource,
+                                                  ShardingProperties properties,
+                                                  DataSourceProperties dataSourceProperties,
+                                                  MeterRegistry meterRegistry,
+                                                  ResourceLoader resourceLoader,
+                                                  @Value("${spring.liquibase.change-log}") String changeLog) throws Exception {
+        List<HikariDataSource> secondaryShards = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            int shard = i + 1;
+            ShardingProperties.Shard config = properties.getShards().get(i);
+            HikariDataSource dataSource = createShardPool(shard, config, dataSourceProperties, meterRegistry);
+            secondaryShards.add(dataSource);
+            migrate(dataSource, shard, resourceLoader, changeLog);
+            log.info("Shard {} registered: url={}, countries={}", shard, config.getUrl(), config.getCountries());
+        }
+        return new ShardRoutingDataSource(shard0DataSource, secondaryShards);
+    }
+
+    // Физическое соединение берётся при первом запросе, когда шард уже выбран
+    @Bean
+    @Primary
+    DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    private HikariDataSource createShardPool(int shard,
+                                             ShardingProperties.Shard config,
+                                             DataSourceProperties dataSourceProperties,
+                                             MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + shard);
+        dataSource.setJdbcUrl(config.getUrl());
+        dataSource.setUsername(config.getUsername() != null ? config.getUsername() : dataSourceProperties.determineUsername());
+        dataSource.setPassword(config.getPassword() != null ? config.getPassword() : dataSourceProperties.determinePassword());
+        dataSource.setMaximumPoolSize(config.getMaximumPoolSize());
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    private void migrate(DataSource dataSource, int shard, ResourceLoader resourceLoader, String changeLog) throws Exception {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(changeLog);
+        liquibase.setContexts(SECONDARY_SHARD_CONTEXT);
+        liquibase.setResourceLoader(resourceLoader);
+        liquibase.afterPropertiesSet();
+
+        // Сдвигаем IDENTITY, только пока шард не выдал ни одного id из своего диапазона
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        long firstId = shard * SHARD_ID_RANGE + 1;
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM hotels", Long.class);
+        if (maxId == null || maxId < firstId) {
+            jdbcTemplate.execute(restartIdentitySql(dataSource, firstId));
+            log.info("Hotel ids on shard {} start at {}", shard, firstId);
+        }
+    }
+
+    private String restartIdentitySql(DataSource dataSource, long firstId) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName().toLowerCase();
+            if (product.contains("mysql")) {
+                return "ALTER TABLE hotels AUTO_INCREMENT = " + firstId;
+            }
+            return "ALTER TABLE hotels ALTER COLUMN id RESTART WITH " + firstId;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of country-based sharding.
+ * Shard 0 is the database configured by spring.datasource.* and holds every country that is not
+ * listed for another shard; {@code shards[i]} describes shard i + 1.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        // Страны (AddressDTO.country), отели которых хранятся на этом шарде
+        private List<String> countries = new ArrayList<>();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.hotelproject.config;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Statement recorded by {@link SlowQueryLog}. The plan is null until the background EXPLAIN completes.
+ */
+public record SlowQuery(long id,
+                        Instant time,
+                        long durationMillis,
+                        String sql,
+                        List<String> parameters,
+                        String repositoryMethod,
+                        String plan) {
+
+    SlowQuery withPlan(String newPlan) {
+        return new SlowQuery(id, time, durationMillis, sql, parameters, repositoryMethod, newPlan);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Slow SQL statement log (hotel.slow-query.enabled, on by default): statements of the application
+ * data source slower than hotel.slow-query.threshold are kept with their execution plan and shown
+ * on /actuator/slowqueries.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "hotel.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    SlowQueryLog slowQueryLog(SlowQueryProperties properties, MeterRegistry meterRegistry) {
+        return new SlowQueryLog(properties, meterRegistry);
+    }
+
+    @Bean
+    SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog, SlowQueryProperties properties) {
+        return new SlowQueryEndpoint(slowQueryLog, properties);
+    }
+
+    @Bean
+    static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new SlowQueryDataSourcePostProcessor(slowQueryLog);
+    }
+
+    static class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+        private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+        SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                log.info("Logging slow SQL statements of data source '{}'", beanName);
+                return new SlowQueryDataSource(dataSource, slowQueryLog.getObject());
+            }
+            return bean;
+        }
+    }
+}
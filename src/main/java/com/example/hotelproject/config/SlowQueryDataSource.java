@@ -0,0 +1,96 @@
+package com.example.hotelproject.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * DataSource that times every statement execution and reports those slower than the threshold
+ * to {@link SlowQueryLog}, with the SQL and the parameters bound to it.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryDataSource(DataSource targetDataSource, SlowQueryLog slowQueryLog) {
+        super(targetDataSource);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timeStatements(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timeStatements(super.getConnection(username, password));
+    }
+
+    private Connection timeStatements(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SlowQueryDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    // prepareStatement(sql, ...) и prepareCall(sql, ...) - SQL известен заранее
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        return timeExecutions(method.getReturnType(), statement, sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Object timeExecutions(Class<?> type, Statement statement, String preparedSql) {
+        // Параметры по номеру; для пачки (addBatch) остаются параметры последней строки
+        TreeMap<Integer, Object> parameters = new TreeMap<>();
+        return Proxy.newProxyInstance(
+                SlowQueryDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        parameters.put(index, "setNull".equals(name) ? null : args[1]);
+                    } else if ("clearParameters".equals(name)) {
+                        parameters.clear();
+                    }
+                    if (!name.startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        long duration = System.nanoTime() - start;
+                        // Statement.execute(sql) - SQL передаётся при выполнении
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                        if (duration >= slowQueryLog.getThresholdNanos() && sql != null) {
+                            slowQueryLog.record(sql, new ArrayList<>(parameters.values()), duration, getTargetDataSource());
+                        }
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
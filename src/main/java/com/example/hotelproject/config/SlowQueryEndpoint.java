@@ -0,0 +1,39 @@
+package com.example.hotelproject.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint /actuator/slowqueries: the latest slow SQL statements with their parameters,
+ * repository method and execution plan. DELETE clears the log.
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+    private final SlowQueryProperties properties;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog, SlowQueryProperties properties) {
+        this.slowQueryLog = slowQueryLog;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowQueries() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("thresholdMillis", properties.getThreshold().toMillis());
+        result.put("capacity", properties.getCapacity());
+        // Новые записи первыми
+        result.put("statements", slowQueryLog.getEntries().reversed());
+        return result;
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
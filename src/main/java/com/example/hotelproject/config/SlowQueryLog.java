@@ -0,0 +1,190 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ring buffer of the latest slow SQL statements. For a slow SELECT the execution plan is requested
+ * in the background with the EXPLAIN of the database (H2, MySQL, PostgreSQL) and the same parameters,
+ * on a single thread with a bounded queue, so a burst of slow queries cannot flood the database with
+ * EXPLAINs. The plan is read on the shard the statement ran on; with read replicas, on the primary.
+ */
+@Slf4j
+public class SlowQueryLog implements DisposableBean {
+
+    private static final int MAX_PARAMETER_LENGTH = 200;
+
+    private final SlowQueryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Deque<SlowQuery> entries = new ArrayDeque<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public SlowQueryLog(SlowQueryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getExplainQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public long getThresholdNanos() {
+        return properties.getThreshold().toNanos();
+    }
+
+    /**
+     * Records a statement that took at least the threshold; {@code explainOn} is the data source
+     * without statement interceptors, so EXPLAIN itself is neither counted nor logged.
+     */
+    public void record(String sql, List<Object> parameters, long durationNanos, DataSource explainOn) {
+        String repositoryMethod = RepositoryMethodContext.current();
+        SlowQuery entry = new SlowQuery(ids.incrementAndGet(), Instant.now(), TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                sql, parameters.stream().map(this::display).toList(), repositoryMethod, null);
+        log.warn("Slow SQL statement ({} ms) in {}: {} {}", entry.durationMillis(),
+                repositoryMethod != null ? repositoryMethod : "-", sql, entry.parameters());
+        meterRegistry.counter("hotel.sql.slow", "repository.method", repositoryMethod != null ? repositoryMethod : "none").increment();
+        add(entry);
+
+        if (properties.isExplain() && isQuery(sql)) {
+            Integer shard = ShardContext.current();
+            try {
+                explainExecutor.execute(() -> {
+                    ShardContext.set(shard);
+                    try {
+                        replace(entry.withPlan(explain(explainOn, sql, parameters)));
+                    } finally {
+                        ShardContext.set(null);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                replace(entry.withPlan("EXPLAIN skipped: too many slow statements waiting"));
+            }
+        }
+    }
+
+    public synchronized List<SlowQuery> getEntries() {
+        return new ArrayList<>(entries);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private synchronized void add(SlowQuery entry) {
+        entries.addLast(entry);
+        while (entries.size() > properties.getCapacity()) {
+            entries.removeFirst();
+        }
+    }
+
+    // Запись могла уже вытесниться из буфера - тогда план не нужен
+    private synchronized void replace(SlowQuery entry) {
+        List<SlowQuery> updated = new ArrayList<>(entries.size());
+        for (SlowQuery existing : entries) {
+            updated.add(existing.id() == entry.id() ? entry : existing);
+        }
+        entries.clear();
+        entries.addAll(updated);
+    }
+
+    private String explain(DataSource dataSource, String sql, List<Object> parameters) {
+        if (parameters.stream().anyMatch(value -> value instanceof InputStream || value instanceof Reader
+                || value instanceof Blob || value instanceof Clob)) {
+            return "EXPLAIN skipped: statement has stream or LOB parameters";
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            String prefix = explainPrefix(connection.getMetaData().getDatabaseProductName());
+            if (prefix == null) {
+                return "EXPLAIN is not supported for " + connection.getMetaData().getDatabaseProductName();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(prefix + sql)) {
+                statement.setQueryTimeout((int) Math.max(1, properties.getExplainTimeout().toSeconds()));
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                try (ResultSet plan = statement.executeQuery()) {
+                    return format(plan);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("EXPLAIN failed for {}", sql, e);
+            return "EXPLAIN failed: " + e.getMessage();
+        }
+    }
+
+    // EXPLAIN без ANALYZE: запрос не выполняется повторно
+    private static String explainPrefix(String databaseProduct) {
+        String product = databaseProduct.toLowerCase(Locale.ROOT);
+        if (product.contains("h2")) {
+            return "EXPLAIN ";
+        } else if (product.contains("mysql") || product.contains("mariadb")) {
+            return "EXPLAIN FORMAT=TREE ";
+        } else if (product.contains("postgres")) {
+            return "EXPLAIN (FORMAT TEXT) ";
+        }
+        return null;
+    }
+
+    // Строки плана; у MySQL и PostgreSQL план в одном столбце, у прочих столбцы через табуляцию
+    private static String format(ResultSet plan) throws SQLException {
+        ResultSetMetaData metaData = plan.getMetaData();
+        StringBuilder text = new StringBuilder();
+        while (plan.next()) {
+            if (!text.isEmpty()) {
+                text.append('\n');
+            }
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                if (column > 1) {
+                    text.append('\t');
+                }
+                text.append(plan.getString(column));
+            }
+        }
+        return text.toString();
+    }
+
+    private static boolean isQuery(String sql) {
+        String start = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return start.startsWith("select") || start.startsWith("with");
+    }
+
+    private String display(Object value) {
+        if (properties.isMaskParameters()) {
+            return value == null ? "null" : "?:" + value.getClass().getSimpleName();
+        }
+        String text = String.valueOf(value);
+        return text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text;
+    }
+
+    @Override
+    public void destroy() {
+        explainExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.hotelproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Slow SQL statement log (hotel.slow-query.*), exposed on /actuator/slowqueries.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hotel.slow-query")
+public class SlowQueryProperties {
+
+    private boolean enabled = true;
+
+    // Запросы не быстрее порога попадают в журнал
+    private Duration threshold = Duration.ofMillis(500);
+
+    // Размер кольцевого буфера: старые записи вытесняются новыми
+    private int capacity = 100;
+
+    // Значения параметров (email, телефоны, поисковые строки) в журнале и на эндпоинте заменяются их типом;
+    // EXPLAIN всё равно выполняется с настоящими значениями
+    private boolean maskParameters = true;
+
+    // План выполнения SELECT получаем в фоне отдельным запросом EXPLAIN
+    private boolean explain = true;
+
+    // Сколько EXPLAIN может ждать выполнения; лишние пропускаются, чтобы не нагружать базу
+    private int explainQueueCapacity = 20;
+
+    private Duration explainTimeout = Duration.ofSeconds(5);
+}
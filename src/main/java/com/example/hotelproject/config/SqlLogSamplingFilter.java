@@ -0,0 +1,80 @@
+package com.example.hotelproject.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that rate-limits Hibernate SQL logging: at most maxPerSecond statements of
+ * org.hibernate.SQL are logged per second, and bound parameters (org.hibernate.orm.jdbc.bind) only
+ * for the statements that were logged. Other statements are denied before Hibernate formats them,
+ * so SQL logging at DEBUG can stay on in production. Configured in logback-spring.xml.
+ */
+public class SqlLogSamplingFilter extends TurboFilter {
+
+    static final String SQL_LOGGER = "org.hibernate.SQL";
+    static final String BIND_LOGGER = "org.hibernate.orm.jdbc.bind";
+
+    // Hibernate сначала проверяет isDebugEnabled(), затем пишет сообщение: разрешение действует на оба вызова
+    private static final ThreadLocal<Boolean> PERMITTED = new ThreadLocal<>();
+    // Параметры пишем только для последнего записанного запроса этого потока
+    private static final ThreadLocal<Boolean> LAST_STATEMENT_LOGGED = new ThreadLocal<>();
+
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicLong logged = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private int maxPerSecond = 10;
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        String name = logger.getName();
+        if (SQL_LOGGER.equals(name)) {
+            return decideStatement(format);
+        }
+        if (name.startsWith(BIND_LOGGER)) {
+            return Boolean.TRUE.equals(LAST_STATEMENT_LOGGED.get()) ? FilterReply.NEUTRAL : FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private FilterReply decideStatement(String format) {
+        if (format != null && Boolean.TRUE.equals(PERMITTED.get())) {
+            PERMITTED.remove();
+            return FilterReply.NEUTRAL;
+        }
+        boolean accepted = tryAcquire();
+        LAST_STATEMENT_LOGGED.set(accepted);
+        if (!accepted) {
+            PERMITTED.remove();
+            dropped.incrementAndGet();
+            return FilterReply.DENY;
+        }
+        // Проверка уровня без сообщения: само сообщение придёт следующим вызовом
+        if (format == null) {
+            PERMITTED.set(Boolean.TRUE);
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    // Окно в одну секунду; счётчик сбрасывает первый поток, заметивший новое окно
+    private boolean tryAcquire() {
+        long second = System.nanoTime() / 1_000_000_000L;
+        long current = window.get();
+        if (current != second && window.compareAndSet(current, second)) {
+            logged.set(0);
+        }
+        return logged.incrementAndGet() <= maxPerSecond;
+    }
+}
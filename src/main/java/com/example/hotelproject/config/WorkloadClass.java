@@ -0,0 +1,15 @@
+package com.example.hotelproject.config;
+
+/**
+ * Classes of requests that are isolated from each other by {@link BulkheadInterceptor}.
+ */
+public enum WorkloadClass {
+    // Чтение одного отеля по id
+    POINT_READ,
+    // Поиск и списки отелей
+    SEARCH,
+    // Агрегаты по всем отелям (гистограммы)
+    AGGREGATION,
+    // Создание, изменение и удаление
+    WRITE
+}
@@ -0,0 +1,94 @@
+package com.example.hotelproject.config;
+
+import com.example.hotelproject.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits one connection pool into per-workload quotas. A request classified by
+ * {@link BulkheadInterceptor} may hold at most its class quota of connections at the same time,
+ * so that searches and aggregations always leave connections for point reads.
+ * Connections taken outside of a classified request (startup, background jobs) are not limited.
+ * A request that gets no connection in time is rejected with {@link ServiceOverloadedException}
+ * (503 with Retry-After), like a request rejected by the bulkhead itself.
+ * Quotas are fixed numbers of connections and do not follow the pool size.
+ */
+public class WorkloadConnectionQuotaDataSource extends DelegatingDataSource {
+
+    private final Map<WorkloadClass, ConcurrencyLimitingDataSource> quotas = new EnumMap<>(WorkloadClass.class);
+    private final Map<WorkloadClass, Timer> waitTimers = new EnumMap<>(WorkloadClass.class);
+    private final MeterRegistry meterRegistry;
+    private final Duration retryAfter;
+
+    public WorkloadConnectionQuotaDataSource(DataSource targetDataSource,
+                                             BulkheadProperties properties,
+                                             Duration acquireTimeout,
+                                             MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+        this.retryAfter = properties.getRetryAfter();
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            ConcurrencyLimitingDataSource quota = new ConcurrencyLimitingDataSource(targetDataSource,
+                    properties.limitsOf(workload).getMaxConnections(), acquireTimeout);
+            quotas.put(workload, quota);
+            waitTimers.put(workload, Timer.builder("hotel.bulkhead.connection.wait")
+                    .description("Time requests waited for a connection within their workload quota")
+                    .tag("workload", BulkheadInterceptor.tagOf(workload))
+                    .register(meterRegistry));
+            Gauge.builder("hotel.bulkhead.connections.available", quota, ConcurrencyLimitingDataSource::getAvailablePermits)
+                    .tag("workload", BulkheadInterceptor.tagOf(workload))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        WorkloadClass workload = WorkloadContext.current();
+        if (workload == null) {
+            return super.getConnection();
+        }
+        return withinQuota(workload, () -> quotas.get(workload).getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        WorkloadClass workload = WorkloadContext.current();
+        if (workload == null) {
+            return super.getConnection(username, password);
+        }
+        return withinQuota(workload, () -> quotas.get(workload).getConnection(username, password));
+    }
+
+    private Connection withinQuota(WorkloadClass workload, ConnectionSupplier connection) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return connection.get();
+        } catch (SQLTransientConnectionException ex) {
+            meterRegistry.counter("hotel.bulkhead.rejected", "workload", BulkheadInterceptor.tagOf(workload), "reason", "connections").increment();
+            throw new ServiceOverloadedException("No database connection available for "
+                    + BulkheadInterceptor.tagOf(workload) + " requests", retryAfter, ex);
+        } finally {
+            waitTimers.get(workload).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public ConcurrencyLimitingDataSource quotaOf(WorkloadClass workload) {
+        return quotas.get(workload);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.hotelproject.config;
+
+/**
+ * Workload class of the request handled by the current thread.
+ * Set by {@link BulkheadInterceptor} and used by {@link WorkloadConnectionQuotaDataSource}.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static WorkloadClass current() {
+        return CURRENT.get();
+    }
+
+    public static void set(WorkloadClass workload) {
+        CURRENT.set(workload);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -1,9 +1,21 @@
 package com.example.hotelproject.controller;
 
+import com.example.hotelproject.config.Workload;
+import com.example.hotelproject.config.WorkloadClass;
+import com.example.hotelproject.dto.BatchQueryDTO;
+import com.example.hotelproject.dto.BatchQueryResultDTO;
+import com.example.hotelproject.dto.BulkAmenityAssignmentDTO;
+import com.example.hotelproject.dto.BulkAmenityAssignmentResultDTO;
+import com.example.hotelproject.dto.BulkHotelDeletionDTO;
+import com.example.hotelproject.dto.BulkHotelDeletionResultDTO;
 import com.example.hotelproject.dto.ErrorResponseDTO;
+import com.example.hotelproject.dto.HotelCreationStatusDTO;
 import com.example.hotelproject.dto.HotelDTO;
 import com.example.hotelproject.dto.HotelShortDTO;
+import com.example.hotelproject.service.BatchQueryService;
+import com.example.hotelproject.service.HotelCreationPipeline;
 import com.example.hotelproject.service.HotelService;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -16,15 +28,21 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
@@ -34,7 +52,12 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Tag(name = "Hotel Management", description = "API for managing hotels")
 public class HotelController {
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final HotelService hotelService;
+    private final HotelCreationPipeline hotelCreationPipeline;
+    private final BatchQueryService batchQueryService;
 
     @Operation(
             summary = "Get all hotels",
@@ -50,6 +73,7 @@ public class HotelController {
                     )
             )
     })
+    @Workload(WorkloadClass.SEARCH)
     @GetMapping("/hotels")
     public List<HotelShortDTO> getAllHotels() {
         return hotelService.getAllHotelsShortInfo();
@@ -77,6 +101,7 @@ public class HotelController {
                     )
             )
     })
+    @Workload(WorkloadClass.POINT_READ)
     @GetMapping("/hotels/{id}")
     public HotelDTO getHotel(
             @Parameter(description = "Hotel ID", required = true, example = "1")
@@ -104,6 +129,7 @@ public class HotelController {
                     content = @Content(mediaType = "application/json")
             )
     })
+    @Workload(WorkloadClass.SEARCH)
     @GetMapping("/search")
     public List<HotelShortDTO> searchHotels(
             @Parameter(description = "Hotel name (partial match)")
@@ -117,14 +143,16 @@ public class HotelController {
             @Parameter(description = "Amenity name(s)")
             @RequestParam(required = false) List<String> amenity
     ) {
-        log.info("Search hotels with params: name={}, brand={}, city={}, country={}, amenity={}",
+        log.debug("Search hotels with params: name={}, brand={}, city={}, country={}, amenity={}",
                 name, brand, city, country, amenity);
         return hotelService.searchHotels(name, brand, city, country, amenity);
     }
 
     @Operation(
             summary = "Create new hotel",
-            description = "Creates a new hotel with the provided information. Description and arrivalTime are optional."
+            description = "Creates a new hotel with the provided information. Description and arrivalTime are optional. "
+                    + "With header 'Prefer: respond-async' (and asynchronous creation enabled) the hotel is queued "
+                    + "for group commit and 202 is returned with a status URL in the Location header."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -135,6 +163,14 @@ public class HotelController {
                             schema = @Schema(implementation = HotelShortDTO.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Hotel accepted for asynchronous creation",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = HotelCreationStatusDTO.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid hotel data",
@@ -150,11 +186,21 @@ public class HotelController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponseDTO.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Asynchronous creation queue is full, retry after the Retry-After delay",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
             )
     })
+    @Workload(WorkloadClass.WRITE)
     @PostMapping("/hotels")
-    @ResponseStatus(HttpStatus.CREATED)
-    public HotelShortDTO createHotel(
+    public ResponseEntity<?> createHotel(
+            @Parameter(description = "Send 'respond-async' to create the hotel asynchronously")
+            @RequestHeader(value = "Prefer", required = false) String prefer,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Hotel data to create",
                     required = true,
@@ -162,8 +208,106 @@ public class HotelController {
             )
             @Valid @RequestBody HotelDTO hotelDTO
     ) {
-        log.info("Create hotel with data: {}", hotelDTO);
-        return hotelService.createHotel(hotelDTO);
+        log.debug("Create hotel with data: {}", hotelDTO);
+        if (prefer != null && prefer.contains(RESPOND_ASYNC) && hotelCreationPipeline.isEnabled()) {
+            HotelCreationStatusDTO status = hotelCreationPipeline.submit(hotelDTO);
+            URI statusUri = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path("/property-view/hotels/creation-requests/{requestId}")
+                    .buildAndExpand(status.getRequestId())
+                    .toUri();
+            return ResponseEntity.accepted()
+                    .location(statusUri)
+                    .header("Preference-Applied", RESPOND_ASYNC)
+                    .body(status);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(hotelService.createHotel(hotelDTO));
+    }
+
+    @Operation(
+            summary = "Partially update hotel",
+            description = "Updates only the fields present in the body using JSON Merge Patch (RFC 7396). "
+                    + "A null value removes the field (or the whole address, contacts or arrivalTime), "
+                    + "arrays such as amenities are replaced entirely. The hotel id cannot be changed."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Hotel successfully updated"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid patch",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Hotel not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Hotel with this name already exists or was modified concurrently",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            )
+    })
+    @Workload(WorkloadClass.WRITE)
+    @PatchMapping(value = "/hotels/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patchHotel(
+            @Parameter(description = "Hotel ID", required = true, example = "1")
+            @PathVariable Long id,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Fields to change, in HotelDTO format",
+                    required = true,
+                    content = @Content(
+                            mediaType = MERGE_PATCH_JSON,
+                            schema = @Schema(implementation = HotelDTO.class)
+                    )
+            )
+            @RequestBody JsonNode patch
+    ) {
+        log.debug("Patch hotel id={}: {}", id, patch);
+        hotelService.patchHotel(id, patch);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Get asynchronous hotel creation status",
+            description = "Returns the state of a hotel creation request accepted with 'Prefer: respond-async'"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Creation request found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = HotelCreationStatusDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Creation request not found or already expired",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            )
+    })
+    @Workload(WorkloadClass.POINT_READ)
+    @GetMapping("/hotels/creation-requests/{requestId}")
+    public HotelCreationStatusDTO getHotelCreationStatus(
+            @Parameter(description = "Creation request ID", required = true)
+            @PathVariable String requestId
+    ) {
+        return hotelCreationPipeline.getStatus(requestId);
     }
 
     @Operation(
@@ -188,6 +332,7 @@ public class HotelController {
                     )
             )
     })
+    @Workload(WorkloadClass.WRITE)
     @PostMapping("/hotels/{id}/amenities")
     public HotelDTO addAmenities(
             @Parameter(description = "Hotel ID", required = true, example = "1")
@@ -201,10 +346,122 @@ public class HotelController {
             )
             @RequestBody List<String> amenities
     ) {
-        log.info("Add amenities to hotel id={}: {}", id, amenities);
+        log.debug("Add amenities to hotel id={}: {}", id, amenities);
         return hotelService.addAmenities(id, amenities);
     }
 
+    @Operation(
+            summary = "Add amenities to many hotels",
+            description = "Adds a list of amenities to all hotels selected either by ID list or by a search filter. "
+                    + "Missing amenities are created; existing assignments are skipped."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Amenities successfully assigned",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkAmenityAssignmentResultDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request (no amenities, or both hotelIds and filter specified)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Either hotelIds or a non-empty filter is required",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @Workload(WorkloadClass.WRITE)
+    @PostMapping("/hotels/amenities/bulk")
+    public BulkAmenityAssignmentResultDTO assignAmenitiesInBulk(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Amenities and the hotels to assign them to",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BulkAmenityAssignmentDTO.class))
+            )
+            @Valid @RequestBody BulkAmenityAssignmentDTO request
+    ) {
+        log.debug("Bulk assign amenities: {}", request);
+        return hotelService.assignAmenitiesInBulk(request);
+    }
+
+    @Operation(
+            summary = "Delete hotel",
+            description = "Deletes a hotel together with its address, contacts, arrival time and amenity assignments"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Hotel successfully deleted"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Hotel not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            )
+    })
+    @Workload(WorkloadClass.WRITE)
+    @DeleteMapping("/hotels/{id}")
+    public ResponseEntity<Void> deleteHotel(
+            @Parameter(description = "Hotel ID", required = true, example = "1")
+            @PathVariable Long id
+    ) {
+        log.debug("Delete hotel id={}", id);
+        hotelService.deleteHotel(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Delete many hotels",
+            description = "Deletes all hotels selected either by ID list or by a search filter, together with their related data"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Hotels successfully deleted",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkHotelDeletionResultDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Both hotelIds and filter specified",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Either hotelIds or a non-empty filter is required",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @Workload(WorkloadClass.WRITE)
+    @PostMapping("/hotels/bulk-delete")
+    public BulkHotelDeletionResultDTO deleteHotelsInBulk(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Hotels to delete",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BulkHotelDeletionDTO.class))
+            )
+            @Valid @RequestBody BulkHotelDeletionDTO request
+    ) {
+        log.debug("Bulk delete hotels: {}", request);
+        return hotelService.deleteHotelsInBulk(request);
+    }
+
     @Operation(
             summary = "Get hotel histogram",
             description = "Returns the count of hotels grouped by the specified parameter (brand, city, country, or amenities)"
@@ -224,6 +481,7 @@ public class HotelController {
                     )
             )
     })
+    @Workload(WorkloadClass.AGGREGATION)
     @GetMapping("/histogram/{param}")
     public Map<String, Long> getHotelHistogram(
             @Parameter(
@@ -234,8 +492,43 @@ public class HotelController {
             )
             @PathVariable String param
     ) {
-        log.info("Get grouping list from controller with params: " + param);
+        log.debug("Get grouping list from controller with params: {}", param);
         return hotelService.getHotelListGroupByParam(param);
     }
 
+    @Operation(
+            summary = "Execute many queries at once",
+            description = "Runs independent SEARCH and HISTOGRAM queries in parallel under one deadline and returns all results in one response. A failed or timed out query is reported in its own result with the status it would have had as a separate request."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch executed, see status of each query",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchQueryResultDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty batch, invalid query or too many queries",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            )
+    })
+    @Workload(WorkloadClass.SEARCH)
+    @PostMapping("/batch")
+    public BatchQueryResultDTO executeBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Queries to execute",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BatchQueryDTO.class))
+            )
+            @Valid @RequestBody BatchQueryDTO request
+    ) {
+        log.debug("Execute batch of {} queries", request.getQueries().size());
+        return batchQueryService.execute(request);
+    }
 }
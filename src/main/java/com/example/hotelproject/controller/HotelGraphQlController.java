@@ -0,0 +1,70 @@
+package com.example.hotelproject.controller;
+
+import com.example.hotelproject.dto.AddressDTO;
+import com.example.hotelproject.dto.ArrivalTimeDTO;
+import com.example.hotelproject.dto.ContactDTO;
+import com.example.hotelproject.dto.HotelFilterDTO;
+import com.example.hotelproject.entity.Amenity;
+import com.example.hotelproject.entity.Brand;
+import com.example.hotelproject.repository.HotelRow;
+import com.example.hotelproject.service.HotelGraphQlService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GraphQL read API (POST /graphql, schema in graphql/hotel.graphqls).
+ * Associations are resolved with @BatchMapping: DataLoader collects all hotels of the current level
+ * and each association is loaded for them at once instead of once per hotel.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+@SchemaMapping(typeName = "Hotel")
+public class HotelGraphQlController {
+
+    private final HotelGraphQlService hotelGraphQlService;
+
+    @QueryMapping
+    public HotelRow hotel(@Argument Long id) {
+        return hotelGraphQlService.getHotel(id);
+    }
+
+    @QueryMapping
+    public List<HotelRow> hotels(@Argument HotelFilterDTO filter, @Argument Integer first, @Argument Integer offset) {
+        log.debug("GraphQL hotels: filter={}, first={}, offset={}", filter, first, offset);
+        return hotelGraphQlService.findHotels(filter, first, offset);
+    }
+
+    @BatchMapping
+    public Map<HotelRow, Brand> brand(List<HotelRow> hotels) {
+        return hotelGraphQlService.loadBrands(hotels);
+    }
+
+    @BatchMapping
+    public Map<HotelRow, AddressDTO> address(List<HotelRow> hotels) {
+        return hotelGraphQlService.loadAddresses(hotels);
+    }
+
+    @BatchMapping
+    public Map<HotelRow, ContactDTO> contacts(List<HotelRow> hotels) {
+        return hotelGraphQlService.loadContacts(hotels);
+    }
+
+    @BatchMapping
+    public Map<HotelRow, ArrivalTimeDTO> arrivalTime(List<HotelRow> hotels) {
+        return hotelGraphQlService.loadArrivalTimes(hotels);
+    }
+
+    @BatchMapping
+    public Map<HotelRow, List<Amenity>> amenities(List<HotelRow> hotels) {
+        return hotelGraphQlService.loadAmenities(hotels);
+    }
+}
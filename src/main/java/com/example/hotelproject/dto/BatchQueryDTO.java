@@ -0,0 +1,29 @@
+package com.example.hotelproject.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+@Schema(description = "Independent search and histogram queries executed in parallel")
+public class BatchQueryDTO {
+
+    @NotEmpty(message = "At least one query is required")
+    @Valid
+    @ArraySchema(schema = @Schema(implementation = BatchSubQueryDTO.class))
+    private List<BatchSubQueryDTO> queries;
+}
@@ -0,0 +1,27 @@
+package com.example.hotelproject.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Results of a batch, in the order of the queries")
+public class BatchQueryResultDTO {
+
+    @Schema(description = "Number of successful queries", example = "9")
+    private int succeeded;
+
+    @Schema(description = "Number of failed queries", example = "1")
+    private int failed;
+
+    private List<BatchSubQueryResultDTO> results;
+}
@@ -0,0 +1,39 @@
+package com.example.hotelproject.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+@Schema(description = "One query of a batch: a hotel search or a histogram")
+public class BatchSubQueryDTO {
+
+    public enum Type {
+        SEARCH,
+        HISTOGRAM
+    }
+
+    @Schema(description = "Client id of the query, echoed in its result; defaults to the query index", example = "minsk-hotels")
+    private String id;
+
+    @NotNull(message = "Query type is required")
+    @Schema(description = "Query type", example = "SEARCH")
+    private Type type;
+
+    @Schema(description = "Search criteria, for SEARCH queries")
+    private HotelFilterDTO filter;
+
+    @Schema(description = "Grouping parameter, for HISTOGRAM queries", example = "city",
+            allowableValues = {"brand", "city", "country", "amenities"})
+    private String param;
+}
@@ -0,0 +1,34 @@
+package com.example.hotelproject.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Result of one batch query; failed queries carry an error instead of a result")
+public class BatchSubQueryResultDTO {
+
+    @Schema(description = "Query id", example = "minsk-hotels")
+    private String id;
+
+    @Schema(description = "Query type", example = "SEARCH")
+    private BatchSubQueryDTO.Type type;
+
+    @Schema(description = "HTTP status the query would have had as a separate request", example = "200")
+    private int status;
+
+    @Schema(description = "Hotel list for SEARCH, hotel counts for HISTOGRAM")
+    private Object result;
+
+    @Schema(description = "Error message of a failed query", example = "At least one search parameter is required")
+    private String error;
+}
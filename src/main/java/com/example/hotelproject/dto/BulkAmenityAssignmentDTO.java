@@ -0,0 +1,34 @@
+package com.example.hotelproject.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+@Schema(description = "Amenities to add to many hotels, selected either by ids or by filter")
+public class BulkAmenityAssignmentDTO {
+
+    @NotEmpty(message = "At least one amenity is required")
+    @Schema(description = "Amenity names to add, missing amenities are created", example = "[\"EV charging\"]")
+    private List<String> amenities;
+
+    @Schema(description = "Hotel ids", example = "[1, 2, 3]")
+    private List<Long> hotelIds;
+
+    @Valid
+    @Schema(description = "Hotel filter, used when hotelIds is not given")
+    private HotelFilterDTO filter;
+}
@@ -0,0 +1,26 @@
+package com.example.hotelproject.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Result of a bulk amenity assignment")
+public class BulkAmenityAssignmentResultDTO {
+
+    @Schema(description = "Number of hotels matched by ids or filter", example = "3000")
+    private int hotelsMatched;
+
+    @Schema(description = "Number of amenities that did not exist and were created", example = "1")
+    private int amenitiesCreated;
+
+    @Schema(description = "Number of new hotel-amenity links, existing links are skipped", example = "2950")
+    private int assignmentsCreated;
+}
@@ -0,0 +1,29 @@
+package com.example.hotelproject.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+@Schema(description = "Hotels to delete, selected either by ids or by filter")
+public class BulkHotelDeletionDTO {
+
+    @Schema(description = "Hotel ids", example = "[1, 2, 3]")
+    private List<Long> hotelIds;
+
+    @Valid
+    @Schema(description = "Hotel filter, used when hotelIds is not given")
+    private HotelFilterDTO filter;
+}
@@ -0,0 +1,23 @@
+package com.example.hotelproject.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Result of a bulk hotel deletion")
+public class BulkHotelDeletionResultDTO {
+
+    @Schema(description = "Number of hotels matched by ids or filter", example = "120")
+    private int hotelsMatched;
+
+    @Schema(description = "Number of hotels actually deleted", example = "120")
+    private int hotelsDeleted;
+}
@@ -0,0 +1,39 @@
+package com.example.hotelproject.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = "Status of an asynchronous hotel creation request")
+public class HotelCreationStatusDTO {
+
+    public enum State { PENDING, CREATED, FAILED }
+
+    @Schema(description = "Creation request id", example = "3f1c2d9e-6a7b-4c1d-9e2f-0a1b2c3d4e5f")
+    private String requestId;
+
+    @Schema(description = "Current state of the request", example = "PENDING")
+    private State state;
+
+    @Schema(description = "Created hotel, present when state is CREATED")
+    private HotelShortDTO hotel;
+
+    @Schema(description = "Failure reason, present when state is FAILED", example = "Hotel 'Hilton' already exists")
+    private String error;
+
+    @Schema(description = "When the request was accepted", example = "2026-02-21T19:30:00")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "When the request was committed or rejected", example = "2026-02-21T19:30:01")
+    private LocalDateTime completedAt;
+}
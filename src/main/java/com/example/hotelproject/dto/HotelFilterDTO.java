@@ -0,0 +1,36 @@
+package com.example.hotelproject.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+@Schema(description = "Hotel filter for bulk operations. All given criteria must match.")
+public class HotelFilterDTO {
+
+    @Schema(description = "Hotel name (partial match)", example = "Hilton")
+    private String name;
+
+    @Schema(description = "Brand name(s)", example = "[\"Hilton\"]")
+    private List<String> brand;
+
+    @Schema(description = "City name(s)", example = "[\"Minsk\"]")
+    private List<String> city;
+
+    @Schema(description = "Country name(s)", example = "[\"Belarus\"]")
+    private List<String> country;
+
+    @Schema(description = "Amenity name(s), hotel must have any of them", example = "[\"Free WiFi\"]")
+    private List<String> amenity;
+}
@@ -3,6 +3,7 @@ package com.example.hotelproject.entity;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -16,8 +17,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @Table(name = "addresses", indexes = {
     @Index(name = "idx_address_street", columnList = "street_id"),
     @Index(name = "idx_address_postcode", columnList = "postCode")
@@ -41,7 +44,7 @@ public class Address {
     @Column(name = "postcode", nullable = false)
     private String postcode;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @MapsId
     @JoinColumn(name = "id")
     @JsonBackReference
@@ -14,17 +14,20 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 
 @Entity
+@DynamicUpdate
 @Table(name = "hotels", indexes = {
     @Index(name = "idx_hotel_name", columnList = "name"),
     @Index(name = "idx_hotel_brand", columnList = "brand_id")
@@ -70,4 +73,9 @@ public class Hotel {
     @Builder.Default
     private List<Amenity> amenities = new ArrayList<>();
 
+    // Версия для оптимистической блокировки (увеличивается и при изменении amenities)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
@@ -0,0 +1,7 @@
+package com.example.hotelproject.exception;
+
+public class HotelCreationRequestNotFoundException extends RuntimeException {
+    public HotelCreationRequestNotFoundException(String message) {
+        super(message);
+    }
+}
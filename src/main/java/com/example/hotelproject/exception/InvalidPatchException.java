@@ -0,0 +1,15 @@
+package com.example.hotelproject.exception;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class InvalidPatchException extends RuntimeException {
+    private final Map<String, String> fieldErrors;
+
+    public InvalidPatchException(String message, Map<String, String> fieldErrors) {
+        super(message);
+        this.fieldErrors = fieldErrors;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.hotelproject.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public ServiceOverloadedException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    // Отказ из-за перегрузки среди причин ошибки: менеджер транзакций оборачивает отказ DataSource
+    // в CannotCreateTransactionException
+    public static ServiceOverloadedException findIn(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ServiceOverloadedException overloaded) {
+                return overloaded;
+            }
+        }
+        return null;
+    }
+}
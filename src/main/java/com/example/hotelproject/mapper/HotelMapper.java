@@ -28,6 +28,7 @@ public interface HotelMapper {
     @Mapping(target = "contact", ignore = true)
     @Mapping(target = "arrivalTime", ignore = true)
     @Mapping(target = "amenities", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Hotel toEntity(HotelDTO hotelDTO);
     
     // Краткая информация об отеле
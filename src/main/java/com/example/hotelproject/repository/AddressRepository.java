@@ -2,5 +2,19 @@ package com.example.hotelproject.repository;
 
 import com.example.hotelproject.entity.Address;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface AddressRepository extends JpaRepository<Address, Long> {}
\ No newline at end of file
+import java.util.Collection;
+import java.util.List;
+
+public interface AddressRepository extends JpaRepository<Address, Long> {
+
+    // Адреса вместе с улицей, городом и страной одним запросом
+    @Query("SELECT a FROM Address a " +
+            "JOIN FETCH a.street s " +
+            "JOIN FETCH s.city c " +
+            "JOIN FETCH c.country " +
+            "WHERE a.id IN :ids")
+    List<Address> findWithLocationByIdIn(@Param("ids") Collection<Long> ids);
+}
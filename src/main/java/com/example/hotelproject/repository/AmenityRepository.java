@@ -3,8 +3,10 @@ package com.example.hotelproject.repository;
 import com.example.hotelproject.entity.Amenity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,8 +15,17 @@ public interface AmenityRepository extends JpaRepository<Amenity, Long> {
 
     Optional<Amenity> findByName(String name);
 
+    List<Amenity> findByNameIn(Collection<String> names);
+
     @Query("SELECT am.name, COUNT(h) FROM Hotel h " +
             "JOIN h.amenities am " +
             "GROUP BY am.name")
     List<Object[]> groupHotelsByAmenities();
+
+    // Пары (id отеля, amenity) для списка отелей одним запросом
+    @Query("SELECT h.id, am FROM Hotel h " +
+            "JOIN h.amenities am " +
+            "WHERE h.id IN :hotelIds " +
+            "ORDER BY am.name")
+    List<Object[]> findByHotelIds(@Param("hotelIds") Collection<Long> hotelIds);
 }
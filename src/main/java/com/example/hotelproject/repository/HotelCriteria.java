@@ -0,0 +1,16 @@
+package com.example.hotelproject.repository;
+
+import java.util.List;
+
+// Критерии выборки отелей для массовых операций, все заданные условия объединяются через AND
+public record HotelCriteria(
+        String name,
+        List<String> brands,
+        List<String> cities,
+        List<String> countries,
+        List<String> amenities
+) {
+    public boolean isEmpty() {
+        return name == null && brands == null && cities == null && countries == null && amenities == null;
+    }
+}
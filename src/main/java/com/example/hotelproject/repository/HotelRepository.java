@@ -1,60 +1,90 @@
 package com.example.hotelproject.repository;
 
 import com.example.hotelproject.entity.Hotel;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface HotelRepository extends JpaRepository<Hotel, Long> {
+public interface HotelRepository extends JpaRepository<Hotel, Long>, HotelRepositoryCustom {
+
+    // Списки отелей загружаются одним запросом вместе со связями, которые нужны HotelShortDTO:
+    // без графа каждая one-to-one связь (mappedBy) читалась бы отдельным запросом на каждый отель
+    @Override
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime"})
+    List<Hotel> findAll();
+
+    // Полная информация об отеле, включая amenities, одним запросом
+    @Override
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime", "amenities"})
+    Optional<Hotel> findById(Long id);
 
     // Поиск по имени
     Hotel findByName(String name);
 
     Optional<Hotel> findByNameIs(String name);
 
+    // Занято ли имя другим отелем
+    boolean existsByNameAndIdNot(String name, Long id);
+
 
     // Найти отели, содержащие текст в названии
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime"})
     List<Hotel> findByNameContainingIgnoreCase(String name);
 
 
     // Найти все отели бренда
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime"})
     @Query("SELECT h FROM Hotel h WHERE UPPER(h.brand.name) = UPPER(:name)")
     List<Hotel> findByBrand_Name(@Param("name") String name);
 
     // Найти отели нескольких брендов
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime"})
     @Query("SELECT h FROM Hotel h WHERE UPPER(h.brand.name) IN :brandNames")
     List<Hotel> findByBrandNames(@Param("brandNames") List<String> brandNames);
 
 
     //  Поиск по месторасположению
     // Найти отели в городе
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime"})
     @Query("SELECT h FROM Hotel h WHERE UPPER(h.address.street.city.name) = UPPER(:cityName)")
     List<Hotel> findByCity(@Param("cityName") String cityName);
 
     // Найти отели в нескольких городах
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime"})
     @Query("SELECT h FROM Hotel h WHERE UPPER(h.address.street.city.name) IN :cityNames")
     List<Hotel> findByCities(@Param("cityNames") List<String> cityNames);
 
     // Найти отели в стране
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime"})
     @Query("SELECT h FROM Hotel h WHERE UPPER(h.address.street.city.country.name) = UPPER(:countryName)")
     List<Hotel> findByCountry(@Param("countryName") String countryName);
 
     // Найти отели в нескольких странах
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime"})
     @Query("SELECT h FROM Hotel h WHERE UPPER(h.address.street.city.country.name) IN :countryNames")
     List<Hotel> findByCountries(@Param("countryNames") List<String> countryNames);
 
     //  Поиск по amenities
 
     // Найти отели с конкретным удобством
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime"})
     @Query("SELECT h FROM Hotel h JOIN h.amenities a WHERE UPPER(a.name) = UPPER(:name)")
     List<Hotel> findByAmenities_Name(@Param("name") String name);
 
     // Найти отели с любым из указанных удобств
+    @EntityGraph(attributePaths = {"brand", "address.street.city.country", "contact", "arrivalTime"})
     @Query("SELECT DISTINCT h FROM Hotel h JOIN h.amenities a WHERE UPPER(a.name) IN :amenityNames")
     List<Hotel> findByAnyAmenities(@Param("amenityNames") List<String> amenityNames);
+
+    // Отели без связей для GraphQL: связи загружаются отдельными запросами на весь список
+    @Query("SELECT new com.example.hotelproject.repository.HotelRow(h.id, h.name, h.description, h.brand.id) " +
+            "FROM Hotel h WHERE h.id IN :ids ORDER BY h.id")
+    List<HotelRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
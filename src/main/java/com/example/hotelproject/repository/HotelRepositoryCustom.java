@@ -0,0 +1,25 @@
+package com.example.hotelproject.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Массовые операции над отелями, выполняются набором SQL-запросов без загрузки сущностей
+public interface HotelRepositoryCustom {
+
+    List<Long> findHotelIds(HotelCriteria criteria);
+
+    // Страница id по возрастанию: LIMIT maxResults OFFSET firstResult
+    List<Long> findHotelIds(HotelCriteria criteria, int firstResult, int maxResults);
+
+    int incrementVersions(Collection<Long> hotelIds);
+
+    // Ключи - имена полей Hotel (name, description, brand); версия увеличивается и без изменений
+    int updateHotelFields(Long hotelId, Map<String, Object> fields);
+
+    void replaceAmenities(Long hotelId, Collection<Long> amenityIds);
+
+    int linkAmenities(Collection<Long> hotelIds, Collection<Long> amenityIds);
+
+    int deleteHotels(Collection<Long> hotelIds);
+}
@@ -0,0 +1,144 @@
+package com.example.hotelproject.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HotelRepositoryCustomImpl implements HotelRepositoryCustom {
+
+    // Порядок важен из-за внешних ключей на hotels
+    private static final List<String> HOTEL_CHILD_TABLES = List.of("hotel_amenities", "addresses", "contacts", "arrival_times");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findHotelIds(HotelCriteria criteria) {
+        return findHotelIds(criteria, 0, -1);
+    }
+
+    // Id отелей по фильтру одним запросом; значения списков сравниваются без учёта регистра.
+    // maxResults < 0 - без ограничения (массовые операции по фильтру)
+    @Override
+    public List<Long> findHotelIds(HotelCriteria criteria, int firstResult, int maxResults) {
+        StringBuilder sql = new StringBuilder("SELECT h.id FROM hotels h " +
+                "JOIN brands b ON b.id = h.brand_id " +
+                "LEFT JOIN addresses ad ON ad.id = h.id " +
+                "LEFT JOIN streets s ON s.id = ad.street_id " +
+                "LEFT JOIN cities c ON c.id = s.city_id " +
+                "LEFT JOIN countries co ON co.id = c.country_id " +
+                "WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (criteria.name() != null) {
+            sql.append(" AND UPPER(h.name) LIKE :name");
+            parameters.put("name", "%" + criteria.name().toUpperCase() + "%");
+        }
+        if (criteria.brands() != null) {
+            sql.append(" AND UPPER(b.name) IN (:brands)");
+            parameters.put("brands", toUpperCase(criteria.brands()));
+        }
+        if (criteria.cities() != null) {
+            sql.append(" AND UPPER(c.name) IN (:cities)");
+            parameters.put("cities", toUpperCase(criteria.cities()));
+        }
+        if (criteria.countries() != null) {
+            sql.append(" AND UPPER(co.name) IN (:countries)");
+            parameters.put("countries", toUpperCase(criteria.countries()));
+        }
+        if (criteria.amenities() != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM hotel_amenities ha " +
+                    "JOIN amenities am ON am.id = ha.amenity_id " +
+                    "WHERE ha.hotel_id = h.id AND UPPER(am.name) IN (:amenities))");
+            parameters.put("amenities", toUpperCase(criteria.amenities()));
+        }
+        sql.append(" ORDER BY h.id");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        parameters.forEach(query::setParameter);
+        // Hibernate добавляет LIMIT/OFFSET в синтаксисе диалекта
+        if (firstResult > 0) {
+            query.setFirstResult(firstResult);
+        }
+        if (maxResults >= 0) {
+            query.setMaxResults(maxResults);
+        }
+
+        List<?> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> ((Number) row).longValue())
+                .toList();
+    }
+
+    // Увеличиваем версию, чтобы параллельный addAmenities с устаревшими данными получил конфликт и перечитал отель
+    @Override
+    public int incrementVersions(Collection<Long> hotelIds) {
+        return entityManager.createNativeQuery("UPDATE hotels SET version = version + 1 WHERE id IN (:hotelIds)")
+                .setParameter("hotelIds", hotelIds)
+                .executeUpdate();
+    }
+
+    // Один UPDATE без загрузки отеля; версия увеличивается, чтобы параллельные изменения получили конфликт
+    @Override
+    public int updateHotelFields(Long hotelId, Map<String, Object> fields) {
+        StringBuilder jpql = new StringBuilder("UPDATE Hotel h SET h.version = h.version + 1");
+        fields.keySet().forEach(field -> jpql.append(", h.").append(field).append(" = :").append(field));
+        Query query = entityManager.createQuery(jpql.append(" WHERE h.id = :hotelId").toString())
+                .setParameter("hotelId", hotelId);
+        fields.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    @Override
+    public void replaceAmenities(Long hotelId, Collection<Long> amenityIds) {
+        entityManager.createNativeQuery("DELETE FROM hotel_amenities WHERE hotel_id = :hotelId")
+                .setParameter("hotelId", hotelId)
+                .executeUpdate();
+        if (!amenityIds.isEmpty()) {
+            linkAmenities(List.of(hotelId), amenityIds);
+        }
+    }
+
+    // INSERT ... SELECT всех недостающих пар (отель, amenity); существующие пары пропускаются
+    @Override
+    public int linkAmenities(Collection<Long> hotelIds, Collection<Long> amenityIds) {
+        return entityManager.createNativeQuery("INSERT INTO hotel_amenities (hotel_id, amenity_id) " +
+                        "SELECT h.id, a.id FROM hotels h CROSS JOIN amenities a " +
+                        "WHERE h.id IN (:hotelIds) AND a.id IN (:amenityIds) " +
+                        "AND NOT EXISTS (SELECT 1 FROM hotel_amenities ha " +
+                        "WHERE ha.hotel_id = h.id AND ha.amenity_id = a.id)")
+                .setParameter("hotelIds", hotelIds)
+                .setParameter("amenityIds", amenityIds)
+                .executeUpdate();
+    }
+
+    // Удаление отелей вместе со связанными строками: сначала дочерние таблицы, затем hotels.
+    // Пять запросов на любую пачку id, сущности в память не загружаются
+    @Override
+    public int deleteHotels(Collection<Long> hotelIds) {
+        for (String table : HOTEL_CHILD_TABLES) {
+            entityManager.createNativeQuery("DELETE FROM " + table + " WHERE " + childKey(table) + " IN (:hotelIds)")
+                    .setParameter("hotelIds", hotelIds)
+                    .executeUpdate();
+        }
+        int deleted = entityManager.createNativeQuery("DELETE FROM hotels WHERE id IN (:hotelIds)")
+                .setParameter("hotelIds", hotelIds)
+                .executeUpdate();
+        // Удалённые отели могли остаться в контексте персистентности
+        entityManager.clear();
+        return deleted;
+    }
+
+    private String childKey(String table) {
+        return "hotel_amenities".equals(table) ? "hotel_id" : "id";
+    }
+
+    private List<String> toUpperCase(List<String> values) {
+        return values.stream().map(String::toUpperCase).toList();
+    }
+}
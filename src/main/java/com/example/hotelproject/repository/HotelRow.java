@@ -0,0 +1,10 @@
+package com.example.hotelproject.repository;
+
+// Колонки таблицы hotels без связей; связи GraphQL догружает пачками по списку отелей
+public record HotelRow(
+        Long id,
+        String name,
+        String description,
+        Long brandId
+) {
+}
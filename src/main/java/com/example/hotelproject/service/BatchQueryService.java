@@ -0,0 +1,187 @@
+package com.example.hotelproject.service;
+
+import com.example.hotelproject.config.BatchQueryProperties;
+import com.example.hotelproject.config.QueryCounter;
+import com.example.hotelproject.config.RequestDeadline;
+import com.example.hotelproject.config.WorkloadClass;
+import com.example.hotelproject.config.WorkloadContext;
+import com.example.hotelproject.dto.BatchQueryDTO;
+import com.example.hotelproject.dto.BatchQueryResultDTO;
+import com.example.hotelproject.dto.BatchSubQueryDTO;
+import com.example.hotelproject.dto.BatchSubQueryResultDTO;
+import com.example.hotelproject.dto.HotelFilterDTO;
+import com.example.hotelproject.exception.HotelNotFoundException;
+import com.example.hotelproject.exception.MissingSearchParameterException;
+import com.example.hotelproject.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executes the queries of POST /property-view/batch concurrently on virtual threads.
+ * All queries share the deadline of the batch request; a query that fails or does not finish
+ * in time is reported in its own result, the others are returned as usual.
+ */
+@Slf4j
+@Service
+public class BatchQueryService {
+
+    private final HotelService hotelService;
+    private final BatchQueryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public BatchQueryService(HotelService hotelService, BatchQueryProperties properties, MeterRegistry meterRegistry) {
+        this.hotelService = hotelService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public BatchQueryResultDTO execute(BatchQueryDTO request) {
+        List<BatchSubQueryDTO> queries = request.getQueries();
+        if (queries.size() > properties.getMaxQueries()) {
+            throw new IllegalArgumentException("Batch contains " + queries.size()
+                    + " queries, at most " + properties.getMaxQueries() + " are allowed");
+        }
+
+        // Подзапросы наследуют дедлайн запроса; без него - общий таймаут batch
+        Long deadline = RequestDeadline.current();
+        long deadlineNanos = deadline != null ? deadline : System.nanoTime() + properties.getTimeout().toNanos();
+        Semaphore parallelism = new Semaphore(properties.getParallelism());
+        QueryCounter queryCounter = QueryCounter.current();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Object>> futures = new ArrayList<>(queries.size());
+            for (BatchSubQueryDTO query : queries) {
+                futures.add(executor.submit(() -> {
+                    // Подзапрос, не дождавшийся очереди до дедлайна, не выполняется
+                    if (!parallelism.tryAcquire(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                        throw new TimeoutException("Deadline exceeded before the query started");
+                    }
+                    WorkloadContext.set(workloadOf(query));
+                    RequestDeadline.set(deadlineNanos);
+                    QueryCounter.set(queryCounter);
+                    if (mdc != null) {
+                        MDC.setContextMap(mdc);
+                    }
+                    try {
+                        return run(query);
+                    } finally {
+                        MDC.clear();
+                        QueryCounter.clear();
+                        RequestDeadline.clear();
+                        WorkloadContext.clear();
+                        parallelism.release();
+                    }
+                }));
+            }
+
+            List<BatchSubQueryResultDTO> results = new ArrayList<>(queries.size());
+            for (int i = 0; i < queries.size(); i++) {
+                results.add(await(queries.get(i), idOf(queries.get(i), i), futures.get(i), deadlineNanos));
+            }
+            int succeeded = (int) results.stream().filter(result -> result.getStatus() == HttpStatus.OK.value()).count();
+            log.info("Batch of {} queries completed: succeeded={}, failed={}", queries.size(), succeeded, queries.size() - succeeded);
+            return BatchQueryResultDTO.builder()
+                    .succeeded(succeeded)
+                    .failed(queries.size() - succeeded)
+                    .results(results)
+                    .build();
+        } finally {
+            // Не ждём опоздавшие подзапросы и не прерываем их потоки: прерывание внутри JDBC закрывает
+            // соединение посреди транзакции. Их SQL остановит таймаут транзакции, взятый из того же дедлайна
+            executor.shutdown();
+        }
+    }
+
+    private Object run(BatchSubQueryDTO query) {
+        if (query.getType() == BatchSubQueryDTO.Type.HISTOGRAM) {
+            if (query.getParam() == null) {
+                throw new IllegalArgumentException("Histogram query requires param");
+            }
+            return hotelService.getHotelListGroupByParam(query.getParam());
+        }
+        HotelFilterDTO filter = query.getFilter() != null ? query.getFilter() : new HotelFilterDTO();
+        return hotelService.searchHotels(filter.getName(), filter.getBrand(), filter.getCity(),
+                filter.getCountry(), filter.getAmenity());
+    }
+
+    private BatchSubQueryResultDTO await(BatchSubQueryDTO query, String id, Future<Object> future, long deadlineNanos) {
+        BatchSubQueryResultDTO.BatchSubQueryResultDTOBuilder result = BatchSubQueryResultDTO.builder()
+                .id(id)
+                .type(query.getType());
+        try {
+            Object value = future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            record(query, HttpStatus.OK);
+            return result.status(HttpStatus.OK.value()).result(value).build();
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            record(query, HttpStatus.GATEWAY_TIMEOUT);
+            return result.status(HttpStatus.GATEWAY_TIMEOUT.value()).error("Deadline exceeded").build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batch queries", e);
+        } catch (ExecutionException e) {
+            HttpStatus status = statusOf(e.getCause());
+            record(query, status);
+            if (status == HttpStatus.INTERNAL_SERVER_ERROR) {
+                log.error("Batch query {} failed: {}", id, e.getCause().getMessage(), e.getCause());
+                return result.status(status.value()).error("Internal server error").build();
+            }
+            log.warn("Batch query {} failed with {}: {}", id, status.value(), e.getCause().getMessage());
+            return result.status(status.value()).error(e.getCause().getMessage()).build();
+        }
+    }
+
+    // Те же статусы, что GlobalExceptionHandler вернул бы на отдельный запрос
+    private HttpStatus statusOf(Throwable error) {
+        if (error instanceof MissingSearchParameterException) {
+            return HttpStatus.UNPROCESSABLE_ENTITY;
+        }
+        if (error instanceof HotelNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (error instanceof IllegalArgumentException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        if (ServiceOverloadedException.findIn(error) != null) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        if (error instanceof TransactionTimedOutException || error instanceof QueryTimeoutException
+                || error instanceof jakarta.persistence.QueryTimeoutException || error instanceof TimeoutException) {
+            return HttpStatus.GATEWAY_TIMEOUT;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    // Подзапрос занимает соединения из квоты своего класса, а не класса batch
+    private WorkloadClass workloadOf(BatchSubQueryDTO query) {
+        return query.getType() == BatchSubQueryDTO.Type.HISTOGRAM ? WorkloadClass.AGGREGATION : WorkloadClass.SEARCH;
+    }
+
+    private String idOf(BatchSubQueryDTO query, int index) {
+        return query.getId() != null ? query.getId() : String.valueOf(index);
+    }
+
+    private void record(BatchSubQueryDTO query, HttpStatus status) {
+        meterRegistry.counter("hotel.batch.queries",
+                "type", query.getType().name().toLowerCase(),
+                "status", String.valueOf(status.value())).increment();
+    }
+}
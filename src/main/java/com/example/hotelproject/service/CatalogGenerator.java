@@ -0,0 +1,247 @@
+package com.example.hotelproject.service;
+
+import com.example.hotelproject.config.CatalogProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * Deterministic generator of a synthetic hotel catalog for scale testing.
+ * Brands, cities and the countries of cities follow Zipf's law, the number of amenities per hotel
+ * follows a power law and popular amenities are picked more often, so query plans and caches see
+ * the skew of a real catalog. Rows are written with batched JDBC inserts, one transaction per batch.
+ * Generated rows are appended after the existing ones; reference names are ranked, rank 1 being
+ * the most frequent: "Brand 1", "City 1", "Country 1", "Amenity 1".
+ */
+@Slf4j
+@Service
+public class CatalogGenerator {
+
+    private static final String DESCRIPTION = ("Comfortable rooms, a restaurant with local cuisine, meeting rooms and a fitness "
+            + "center close to the business district and the old town. Friendly staff is available around the clock. ")
+            .repeat(6);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public CatalogGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public static String brandName(int rank) {
+        return "Brand " + rank;
+    }
+
+    public static String cityName(int rank) {
+        return "City " + rank;
+    }
+
+    public static String countryName(int rank) {
+        return "Country " + rank;
+    }
+
+    public static String amenityName(int rank) {
+        return "Amenity " + rank;
+    }
+
+    public static String hotelName(int index) {
+        return "Generated Hotel " + index;
+    }
+
+    public GeneratedCatalog generate(CatalogProperties spec) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM brands WHERE name = ?", Integer.class, brandName(1));
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("Catalog has already been generated in this database");
+        }
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        log.info("Generating catalog: hotels={}, seed={}, brands={}, cities={}, countries={}, amenities={}",
+                spec.getHotels(), spec.getSeed(), spec.getBrands(), spec.getCities(), spec.getCountries(), spec.getAmenities());
+
+        // Справочники: id выдаём сами, чтобы не читать их обратно
+        long countryBase = nextId("countries");
+        long cityBase = nextId("cities");
+        long streetBase = nextId("streets");
+        long brandBase = nextId("brands");
+        long amenityBase = nextId("amenities");
+        long hotelBase = nextId("hotels");
+
+        Zipf countryRanks = new Zipf(spec.getCountries(), spec.getZipfExponent());
+        inTransaction(() -> {
+            insert("INSERT INTO countries (id, name) VALUES (?, ?)", spec.getCountries(),
+                    i -> new Object[]{countryBase + i, countryName(i + 1)});
+            insert("INSERT INTO cities (id, name, country_id) VALUES (?, ?, ?)", spec.getCities(),
+                    i -> new Object[]{cityBase + i, cityName(i + 1), countryBase + countryRanks.sample(random)});
+            insert("INSERT INTO streets (id, name, city_id) VALUES (?, ?, ?)", spec.getCities() * spec.getStreetsPerCity(),
+                    i -> new Object[]{streetBase + i, "Street " + (i % spec.getStreetsPerCity() + 1), cityBase + i / spec.getStreetsPerCity()});
+            insert("INSERT INTO brands (id, name) VALUES (?, ?)", spec.getBrands(),
+                    i -> new Object[]{brandBase + i, brandName(i + 1)});
+            insert("INSERT INTO amenities (id, name) VALUES (?, ?)", spec.getAmenities(),
+                    i -> new Object[]{amenityBase + i, amenityName(i + 1)});
+        });
+
+        Zipf brandRanks = new Zipf(spec.getBrands(), spec.getZipfExponent());
+        Zipf cityRanks = new Zipf(spec.getCities(), spec.getZipfExponent());
+        Zipf amenityRanks = new Zipf(spec.getAmenities(), spec.getZipfExponent());
+        int maxAmenities = Math.min(spec.getMaxAmenitiesPerHotel(), spec.getAmenities());
+
+        HotelBatch batch = new HotelBatch(spec.getBatchSize());
+        long links = 0;
+        for (int i = 0; i < spec.getHotels(); i++) {
+            long id = hotelBase + i;
+            int city = cityRanks.sample(random);
+            batch.hotels.add(new Object[]{id, hotelName(i + 1), DESCRIPTION.substring(0, 60 + random.nextInt(600)),
+                    brandBase + brandRanks.sample(random)});
+            batch.addresses.add(new Object[]{id, 1 + random.nextInt(300),
+                    streetBase + (long) city * spec.getStreetsPerCity() + random.nextInt(spec.getStreetsPerCity()),
+                    String.format("%06d", random.nextInt(1_000_000))});
+            batch.contacts.add(new Object[]{id, String.format("+1 555 %07d", random.nextInt(10_000_000)),
+                    "hotel" + (i + 1) + "@example.com"});
+            batch.arrivalTimes.add(new Object[]{id, (12 + random.nextInt(4)) + ":00", (10 + random.nextInt(3)) + ":00"});
+            for (int amenity : pickAmenities(random, amenityRanks, amenityCount(random, spec.getAmenityCountExponent(), maxAmenities))) {
+                batch.hotelAmenities.add(new Object[]{id, amenityBase + amenity});
+                links++;
+            }
+
+            if (batch.hotels.size() == spec.getBatchSize() || i == spec.getHotels() - 1) {
+                inTransaction(batch::flush);
+                if ((i + 1) % (spec.getBatchSize() * 20) == 0) {
+                    log.info("Generated {} of {} hotels", i + 1, spec.getHotels());
+                }
+            }
+        }
+
+        // Новые отели через API получают id после сгенерированных
+        restartIdentity("hotels", hotelBase + spec.getHotels());
+        restartIdentity("countries", countryBase + spec.getCountries());
+        restartIdentity("cities", cityBase + spec.getCities());
+        restartIdentity("streets", streetBase + (long) spec.getCities() * spec.getStreetsPerCity());
+        restartIdentity("brands", brandBase + spec.getBrands());
+        restartIdentity("amenities", amenityBase + spec.getAmenities());
+
+        GeneratedCatalog catalog = new GeneratedCatalog(spec.getHotels(), links, hotelBase, Duration.ofNanos(System.nanoTime() - start));
+        log.info("Catalog generated: {}", catalog);
+        return catalog;
+    }
+
+    // Степенной закон P(k) ~ k^-exponent, k >= 1 (обратное преобразование непрерывного Парето)
+    private int amenityCount(SplittableRandom random, double exponent, int max) {
+        double count = Math.pow(1 - random.nextDouble(), -1 / (exponent - 1));
+        return (int) Math.min(max, Math.floor(count));
+    }
+
+    // Популярные amenities выпадают чаще; если выборка затянулась, добираем по порядку популярности
+    private int[] pickAmenities(SplittableRandom random, Zipf ranks, int count) {
+        BitSet picked = new BitSet(ranks.size());
+        int[] result = new int[count];
+        int found = 0;
+        for (int attempt = 0; found < count && attempt < count * 20; attempt++) {
+            int amenity = ranks.sample(random);
+            if (!picked.get(amenity)) {
+                picked.set(amenity);
+                result[found++] = amenity;
+            }
+        }
+        for (int amenity = picked.nextClearBit(0); found < count; amenity = picked.nextClearBit(amenity + 1)) {
+            result[found++] = amenity;
+        }
+        return result;
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId == null ? 1 : maxId + 1;
+    }
+
+    private void restartIdentity(String table, long nextId) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase());
+        if (product.contains("mysql")) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + nextId);
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId);
+        }
+    }
+
+    private void inTransaction(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> work.run());
+    }
+
+    private void insert(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(row.apply(i));
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    public record GeneratedCatalog(int hotels, long hotelAmenities, long firstHotelId, Duration took) {
+    }
+
+    private final class HotelBatch {
+        private final List<Object[]> hotels;
+        private final List<Object[]> addresses;
+        private final List<Object[]> contacts;
+        private final List<Object[]> arrivalTimes;
+        private final List<Object[]> hotelAmenities;
+
+        private HotelBatch(int size) {
+            hotels = new ArrayList<>(size);
+            addresses = new ArrayList<>(size);
+            contacts = new ArrayList<>(size);
+            arrivalTimes = new ArrayList<>(size);
+            hotelAmenities = new ArrayList<>(size * 4);
+        }
+
+        // Порядок важен из-за внешних ключей на hotels
+        private void flush() {
+            jdbcTemplate.batchUpdate("INSERT INTO hotels (id, name, description, brand_id, version) VALUES (?, ?, ?, ?, 0)", hotels);
+            jdbcTemplate.batchUpdate("INSERT INTO addresses (id, housenumber, street_id, postcode) VALUES (?, ?, ?, ?)", addresses);
+            jdbcTemplate.batchUpdate("INSERT INTO contacts (id, phone, email) VALUES (?, ?, ?)", contacts);
+            jdbcTemplate.batchUpdate("INSERT INTO arrival_times (id, check_in, check_out) VALUES (?, ?, ?)", arrivalTimes);
+            jdbcTemplate.batchUpdate("INSERT INTO hotel_amenities (hotel_id, amenity_id) VALUES (?, ?)", hotelAmenities);
+            hotels.clear();
+            addresses.clear();
+            contacts.clear();
+            arrivalTimes.clear();
+            hotelAmenities.clear();
+        }
+    }
+
+    // Ранги 0..n-1 с вероятностью 1 / (rank + 1)^exponent
+    private static final class Zipf {
+        private final double[] cumulative;
+
+        private Zipf(int size, double exponent) {
+            cumulative = new double[size];
+            double sum = 0;
+            for (int rank = 0; rank < size; rank++) {
+                sum += 1 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < size; rank++) {
+                cumulative[rank] /= sum;
+            }
+        }
+
+        private int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+
+        private int size() {
+            return cumulative.length;
+        }
+    }
+}
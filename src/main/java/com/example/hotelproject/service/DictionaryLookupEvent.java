@@ -0,0 +1,30 @@
+package com.example.hotelproject.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for the find-or-create lookup of a reference entity (brand, country, city, street,
+ * amenity) by name; found = false means the entity was created.
+ */
+@Name("com.example.hotelproject.DictionaryLookup")
+@Label("Dictionary Lookup")
+@Description("Lookup of a brand, country, city, street or amenity by name, created when missing")
+@Category({"Hotel Project", "Service"})
+@Threshold("5 ms")
+@StackTrace(false)
+class DictionaryLookupEvent extends jdk.jfr.Event {
+
+    @Label("Dictionary")
+    String dictionary;
+
+    @Label("Name")
+    String name;
+
+    @Label("Found")
+    boolean found;
+}
@@ -0,0 +1,25 @@
+package com.example.hotelproject.service;
+
+/**
+ * Grouping parameter of GET /histogram/{param}; singular and plural spellings are accepted.
+ */
+public enum HistogramParameter {
+    BRAND,
+    CITY,
+    COUNTRY,
+    AMENITIES;
+
+    public static HistogramParameter of(String param) {
+        return switch (param.toLowerCase()) {
+            case "city", "cities" -> CITY;
+            case "country", "countries" -> COUNTRY;
+            case "brand", "brands" -> BRAND;
+            case "amenity", "amenities" -> AMENITIES;
+            default -> throw new IllegalArgumentException("Invalid parameter: " + param);
+        };
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.hotelproject.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for one phase of createHotel: validate (name is unique), resolve (find or create
+ * the brand, address parts and amenities) and persist (insert the hotel and map the response).
+ */
+@Name("com.example.hotelproject.CreationPhase")
+@Label("Hotel Creation Phase")
+@Description("One phase of creating a hotel")
+@Category({"Hotel Project", "Service"})
+@Threshold("5 ms")
+@StackTrace(false)
+class HotelCreationPhaseEvent extends jdk.jfr.Event {
+
+    static final String VALIDATE = "validate";
+    static final String RESOLVE = "resolve";
+    static final String PERSIST = "persist";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Hotel")
+    String hotel;
+}
@@ -0,0 +1,237 @@
+package com.example.hotelproject.service;
+
+import com.example.hotelproject.config.AsyncCreateProperties;
+import com.example.hotelproject.dto.HotelCreationStatusDTO;
+import com.example.hotelproject.dto.HotelDTO;
+import com.example.hotelproject.dto.HotelShortDTO;
+import com.example.hotelproject.exception.HotelAlreadyExistsException;
+import com.example.hotelproject.exception.HotelCreationRequestNotFoundException;
+import com.example.hotelproject.exception.ServiceOverloadedException;
+import com.example.hotelproject.repository.HotelRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous write path for hotel creation.
+ * Requests are validated and queued by the HTTP thread; a single writer drains the queue and
+ * commits many hotels per transaction (group commit). If a group fails, its hotels are retried
+ * one by one so that a single bad item does not fail its neighbours.
+ */
+@Slf4j
+@Service
+public class HotelCreationPipeline implements SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final HotelService hotelService;
+    private final HotelRepository hotelRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AsyncCreateProperties properties;
+    private final BlockingQueue<PendingCreation> queue;
+    private final Map<String, HotelCreationStatusDTO> statuses = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private volatile Thread writer;
+    private long lastEvictionNanos = System.nanoTime();
+
+    public HotelCreationPipeline(HotelService hotelService,
+                                 HotelRepository hotelRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 AsyncCreateProperties properties) {
+        this.hotelService = hotelService;
+        this.hotelRepository = hotelRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        meterRegistry.gauge("hotel.async.create.queue.size", queue, BlockingQueue::size);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // Проверяет запрос и ставит его в очередь; при переполнении очереди - 503 (backpressure)
+    public HotelCreationStatusDTO submit(HotelDTO hotelDTO) {
+        if (!running) {
+            throw new ServiceOverloadedException("Asynchronous hotel creation is not accepting requests", properties.getRetryAfter());
+        }
+        if (hotelRepository.findByNameIs(hotelDTO.getName()).isPresent()) {
+            throw new HotelAlreadyExistsException("Hotel '" + hotelDTO.getName() + "' already exists");
+        }
+
+        HotelCreationStatusDTO status = HotelCreationStatusDTO.builder()
+                .requestId(UUID.randomUUID().toString())
+                .state(HotelCreationStatusDTO.State.PENDING)
+                .submittedAt(LocalDateTime.now())
+                .build();
+        statuses.put(status.getRequestId(), status);
+
+        if (!queue.offer(new PendingCreation(status.getRequestId(), hotelDTO))) {
+            statuses.remove(status.getRequestId());
+            meterRegistry.counter("hotel.async.create.rejected").increment();
+            throw new ServiceOverloadedException("Hotel creation queue is full", properties.getRetryAfter());
+        }
+        log.debug("Queued hotel creation: requestId={}, name={}", status.getRequestId(), hotelDTO.getName());
+        return status;
+    }
+
+    public HotelCreationStatusDTO getStatus(String requestId) {
+        HotelCreationStatusDTO status = statuses.get(requestId);
+        if (status == null) {
+            throw new HotelCreationRequestNotFoundException("Hotel creation request not found: " + requestId);
+        }
+        return status;
+    }
+
+    private void drainLoop() {
+        List<PendingCreation> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreation first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, properties.getBatchSize() - 1);
+                    commitBatch(batch);
+                }
+                evictExpiredStatuses();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Hotel group commit writer failed: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commitBatch(List<PendingCreation> batch) {
+        // Дубликаты внутри одной группы отклоняем сразу, иначе они сломают всю транзакцию
+        Set<String> names = new HashSet<>();
+        List<PendingCreation> accepted = new ArrayList<>(batch.size());
+        for (PendingCreation item : batch) {
+            if (names.add(item.hotel().getName())) {
+                accepted.add(item);
+            } else {
+                fail(item, "Hotel '" + item.hotel().getName() + "' already exists");
+            }
+        }
+        if (accepted.size() == 1) {
+            commitSingle(accepted.getFirst());
+            return;
+        }
+
+        try {
+            List<HotelShortDTO> created = transactionTemplate.execute(status -> accepted.stream()
+                    .map(item -> hotelService.createHotel(item.hotel()))
+                    .toList());
+            for (int i = 0; i < accepted.size(); i++) {
+                complete(accepted.get(i), created.get(i));
+            }
+            meterRegistry.summary("hotel.async.create.batch.size").record(accepted.size());
+            log.info("Group commit of {} hotels succeeded", accepted.size());
+        } catch (RuntimeException ex) {
+            log.warn("Group commit of {} hotels failed ({}), committing them one by one", accepted.size(), ex.getMessage());
+            accepted.forEach(this::commitSingle);
+        }
+    }
+
+    private void commitSingle(PendingCreation item) {
+        try {
+            complete(item, transactionTemplate.execute(status -> hotelService.createHotel(item.hotel())));
+        } catch (RuntimeException ex) {
+            fail(item, ex.getMessage());
+        }
+    }
+
+    private void complete(PendingCreation item, HotelShortDTO hotel) {
+        statuses.computeIfPresent(item.requestId(), (id, status) -> status.toBuilder()
+                .state(HotelCreationStatusDTO.State.CREATED)
+                .hotel(hotel)
+                .completedAt(LocalDateTime.now())
+                .build());
+        meterRegistry.counter("hotel.async.create.completed", "state", "created").increment();
+    }
+
+    private void fail(PendingCreation item, String error) {
+        log.warn("Asynchronous hotel creation failed: requestId={}, name={}, error={}",
+                item.requestId(), item.hotel().getName(), error);
+        statuses.computeIfPresent(item.requestId(), (id, status) -> status.toBuilder()
+                .state(HotelCreationStatusDTO.State.FAILED)
+                .error(error)
+                .completedAt(LocalDateTime.now())
+                .build());
+        meterRegistry.counter("hotel.async.create.completed", "state", "failed").increment();
+    }
+
+    private void evictExpiredStatuses() {
+        long now = System.nanoTime();
+        if (now - lastEvictionNanos < TimeUnit.SECONDS.toNanos(10)) {
+            return;
+        }
+        lastEvictionNanos = now;
+        LocalDateTime threshold = LocalDateTime.now().minus(properties.getStatusRetention());
+        statuses.values().removeIf(status -> status.getCompletedAt() != null && status.getCompletedAt().isBefore(threshold));
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("hotel-group-commit").start(this::drainLoop);
+        log.info("Asynchronous hotel creation enabled: queueCapacity={}, batchSize={}",
+                properties.getQueueCapacity(), properties.getBatchSize());
+    }
+
+    // Дописываем оставшуюся очередь перед остановкой
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = writer;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(15));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Stopped hotel group commit writer with {} queued requests", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Останавливаемся после того, как веб-сервер перестал принимать запросы
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1536;
+    }
+
+    private record PendingCreation(String requestId, HotelDTO hotel) {
+    }
+}
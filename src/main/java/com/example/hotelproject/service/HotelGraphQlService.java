@@ -0,0 +1,231 @@
+package com.example.hotelproject.service;
+
+import com.example.hotelproject.config.GraphQlLimitsProperties;
+import com.example.hotelproject.dto.AddressDTO;
+import com.example.hotelproject.dto.ArrivalTimeDTO;
+import com.example.hotelproject.dto.ContactDTO;
+import com.example.hotelproject.dto.HotelFilterDTO;
+import com.example.hotelproject.entity.Address;
+import com.example.hotelproject.entity.Amenity;
+import com.example.hotelproject.entity.ArrivalTime;
+import com.example.hotelproject.entity.Brand;
+import com.example.hotelproject.entity.Contact;
+import com.example.hotelproject.exception.HotelNotFoundException;
+import com.example.hotelproject.mapper.AddressMapper;
+import com.example.hotelproject.repository.AddressRepository;
+import com.example.hotelproject.repository.AmenityRepository;
+import com.example.hotelproject.repository.ArrivalTimeRepository;
+import com.example.hotelproject.repository.BrandRepository;
+import com.example.hotelproject.repository.ContactRepository;
+import com.example.hotelproject.repository.HotelCriteria;
+import com.example.hotelproject.repository.HotelRepository;
+import com.example.hotelproject.repository.HotelRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Data access for the GraphQL read API.
+ * Hotels are loaded without associations; every association is then loaded for the whole list of
+ * hotels with one query (per shard), so a GraphQL query costs one query per association level.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HotelGraphQlService {
+
+    private final HotelRepository hotelRepository;
+    private final BrandRepository brandRepository;
+    private final AddressRepository addressRepository;
+    private final ContactRepository contactRepository;
+    private final ArrivalTimeRepository arrivalTimeRepository;
+    private final AmenityRepository amenityRepository;
+    private final AddressMapper addressMapper;
+    private final ShardRouter shardRouter;
+    private final GraphQlLimitsProperties properties;
+
+    // null - отеля нет, GraphQL вернёт hotel: null
+    public HotelRow getHotel(Long id) {
+        try {
+            return onHotelShard(id, () -> hotelRepository.findRowsByIdIn(List.of(id))).stream()
+                    .findFirst()
+                    .orElse(null);
+        } catch (HotelNotFoundException e) {
+            return null;
+        }
+    }
+
+    public List<HotelRow> findHotels(HotelFilterDTO filter, Integer first, Integer offset) {
+        int pageSize = first != null ? first : properties.getDefaultPageSize();
+        int skip = offset != null ? offset : 0;
+        if (pageSize < 0 || pageSize > properties.getMaxPageSize()) {
+            throw new IllegalArgumentException("first must be between 0 and " + properties.getMaxPageSize());
+        }
+        if (skip < 0) {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+
+        if (pageSize == 0) {
+            return List.of();
+        }
+        HotelCriteria criteria = toCriteria(filter);
+        List<Long> page;
+        if (shardRouter.isEnabled()) {
+            // Страница может целиком лежать на одном шарде: с каждого берём первые offset + first id
+            // и сливаем упорядоченные списки
+            int perShard = Math.addExact(skip, pageSize);
+            page = mergeSorted(shardRouter.onAllShards(true, () -> hotelRepository.findHotelIds(criteria, 0, perShard))).stream()
+                    .skip(skip)
+                    .limit(pageSize)
+                    .toList();
+        } else {
+            page = hotelRepository.findHotelIds(criteria, skip, pageSize);
+        }
+        log.debug("GraphQL hotels page: filter={}, first={}, offset={}, found={}", filter, pageSize, skip, page.size());
+        if (page.isEmpty()) {
+            return List.of();
+        }
+
+        List<HotelRow> rows = new ArrayList<>(page.size());
+        byShard(page, ids -> rows.addAll(hotelRepository.findRowsByIdIn(ids)));
+        return rows.stream()
+                .sorted(Comparator.comparing(HotelRow::id))
+                .toList();
+    }
+
+    public Map<HotelRow, Brand> loadBrands(List<HotelRow> hotels) {
+        return loadByHotel(hotels, rows -> {
+            Map<Long, Brand> brands = brandRepository.findAllById(rows.stream().map(HotelRow::brandId).distinct().toList())
+                    .stream()
+                    .collect(Collectors.toMap(Brand::getId, Function.identity()));
+            Map<HotelRow, Brand> result = new HashMap<>();
+            rows.forEach(row -> result.put(row, brands.get(row.brandId())));
+            return result;
+        });
+    }
+
+    public Map<HotelRow, AddressDTO> loadAddresses(List<HotelRow> hotels) {
+        return loadByHotel(hotels, rows -> byId(rows, addressRepository.findWithLocationByIdIn(idsOf(rows)).stream()
+                .collect(Collectors.toMap(Address::getId, addressMapper::toDTO))));
+    }
+
+    public Map<HotelRow, ContactDTO> loadContacts(List<HotelRow> hotels) {
+        return loadByHotel(hotels, rows -> byId(rows, contactRepository.findAllById(idsOf(rows)).stream()
+                .collect(Collectors.toMap(Contact::getId, contact -> ContactDTO.builder()
+                        .phone(contact.getPhone())
+                        .email(contact.getEmail())
+                        .build()))));
+    }
+
+    public Map<HotelRow, ArrivalTimeDTO> loadArrivalTimes(List<HotelRow> hotels) {
+        return loadByHotel(hotels, rows -> byId(rows, arrivalTimeRepository.findAllById(idsOf(rows)).stream()
+                .collect(Collectors.toMap(ArrivalTime::getId, arrivalTime -> ArrivalTimeDTO.builder()
+                        .checkIn(arrivalTime.getCheckIn())
+                        .checkOut(arrivalTime.getCheckOut())
+                        .build()))));
+    }
+
+    public Map<HotelRow, List<Amenity>> loadAmenities(List<HotelRow> hotels) {
+        return loadByHotel(hotels, rows -> {
+            Map<Long, List<Amenity>> amenities = new HashMap<>();
+            for (Object[] pair : amenityRepository.findByHotelIds(idsOf(rows))) {
+                amenities.computeIfAbsent((Long) pair[0], id -> new ArrayList<>()).add((Amenity) pair[1]);
+            }
+            Map<HotelRow, List<Amenity>> result = new HashMap<>();
+            rows.forEach(row -> result.put(row, amenities.getOrDefault(row.id(), List.of())));
+            return result;
+        });
+    }
+
+    // Связи отеля хранятся на его шарде: один запрос на каждый шард, где есть отели из списка
+    private <T> Map<HotelRow, T> loadByHotel(List<HotelRow> hotels, Function<List<HotelRow>, Map<HotelRow, T>> loader) {
+        if (!shardRouter.isEnabled()) {
+            return loader.apply(hotels);
+        }
+        Map<Integer, List<HotelRow>> rowsByShard = hotels.stream()
+                .collect(Collectors.groupingBy(row -> shardRouter.shardOf(row.id()), LinkedHashMap::new, Collectors.toList()));
+        Map<HotelRow, T> result = new HashMap<>();
+        rowsByShard.forEach((shard, rows) -> result.putAll(shardRouter.onShard(shard, true, () -> loader.apply(rows))));
+        return result;
+    }
+
+    private void byShard(List<Long> hotelIds, Consumer<List<Long>> work) {
+        if (!shardRouter.isEnabled()) {
+            work.accept(hotelIds);
+            return;
+        }
+        hotelIds.stream()
+                .collect(Collectors.groupingBy(shardRouter::shardOf, LinkedHashMap::new, Collectors.toList()))
+                .forEach((shard, ids) -> shardRouter.onShard(shard, true, () -> {
+                    work.accept(ids);
+                    return null;
+                }));
+    }
+
+    private <T> T onHotelShard(Long id, Supplier<T> work) {
+        return shardRouter.isEnabled() ? shardRouter.onShard(shardRouter.shardOf(id), true, work) : work.get();
+    }
+
+    // Слияние списков id, каждый из которых упорядочен по возрастанию
+    private List<Long> mergeSorted(List<List<Long>> lists) {
+        List<Long> merged = new ArrayList<>(lists.stream().mapToInt(List::size).sum());
+        int[] positions = new int[lists.size()];
+        while (true) {
+            int next = -1;
+            for (int i = 0; i < lists.size(); i++) {
+                if (positions[i] < lists.get(i).size()
+                        && (next < 0 || lists.get(i).get(positions[i]) < lists.get(next).get(positions[next]))) {
+                    next = i;
+                }
+            }
+            if (next < 0) {
+                return merged;
+            }
+            merged.add(lists.get(next).get(positions[next]++));
+        }
+    }
+
+    // Адрес, контакты и время заезда имеют тот же id, что и отель
+    private <T> Map<HotelRow, T> byId(List<HotelRow> rows, Map<Long, T> valuesById) {
+        Map<HotelRow, T> result = new HashMap<>();
+        rows.forEach(row -> result.put(row, valuesById.get(row.id())));
+        return result;
+    }
+
+    private Collection<Long> idsOf(List<HotelRow> rows) {
+        return rows.stream().map(HotelRow::id).toList();
+    }
+
+    private HotelCriteria toCriteria(HotelFilterDTO filter) {
+        if (filter == null) {
+            return new HotelCriteria(null, null, null, null, null);
+        }
+        String name = filter.getName() != null && !filter.getName().trim().isEmpty() ? filter.getName() : null;
+        return new HotelCriteria(name, nonEmpty(filter.getBrand()), nonEmpty(filter.getCity()),
+                nonEmpty(filter.getCountry()), nonEmpty(filter.getAmenity()));
+    }
+
+    private List<String> nonEmpty(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> filtered = values.stream()
+                .filter(value -> value != null && !value.trim().isEmpty())
+                .toList();
+        return filtered.isEmpty() ? null : filtered;
+    }
+}
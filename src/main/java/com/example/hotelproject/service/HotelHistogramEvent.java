@@ -0,0 +1,26 @@
+package com.example.hotelproject.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for GET /histogram/{param}, committed only when it took longer than the threshold.
+ */
+@Name("com.example.hotelproject.Histogram")
+@Label("Hotel Histogram")
+@Description("Count of hotels grouped by a parameter, on all shards")
+@Category({"Hotel Project", "Service"})
+@Threshold("10 ms")
+@StackTrace(false)
+class HotelHistogramEvent extends jdk.jfr.Event {
+
+    @Label("Parameter")
+    String parameter;
+
+    @Label("Groups")
+    int groups;
+}
@@ -0,0 +1,28 @@
+package com.example.hotelproject.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for mapping hotel entities to DTOs; lazy associations are loaded during mapping,
+ * so a slow mapping batch usually means N+1 queries.
+ */
+@Name("com.example.hotelproject.Mapping")
+@Label("Hotel Mapping")
+@Description("Mapping of a batch of hotel entities to DTOs")
+@Category({"Hotel Project", "Service"})
+@Threshold("5 ms")
+@StackTrace(false)
+class HotelMappingEvent extends jdk.jfr.Event {
+
+    @Label("Target")
+    @Description("DTO the hotels are mapped to")
+    String target;
+
+    @Label("Hotels")
+    int hotels;
+}
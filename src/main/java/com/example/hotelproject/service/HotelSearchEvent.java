@@ -0,0 +1,30 @@
+package com.example.hotelproject.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for GET /search, committed only when the search took longer than the threshold.
+ */
+@Name("com.example.hotelproject.Search")
+@Label("Hotel Search")
+@Description("Search of hotels by one criterion, on all shards")
+@Category({"Hotel Project", "Service"})
+@Threshold("10 ms")
+@StackTrace(false)
+class HotelSearchEvent extends jdk.jfr.Event {
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Parameter Count")
+    @Description("Number of values given for the search criterion")
+    int parameterCount;
+
+    @Label("Result Size")
+    int resultSize;
+}
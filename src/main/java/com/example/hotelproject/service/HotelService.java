@@ -2,23 +2,46 @@ package com.example.hotelproject.service;
 
 import com.example.hotelproject.dto.AddressDTO;
 import com.example.hotelproject.dto.ArrivalTimeDTO;
+import com.example.hotelproject.dto.BulkAmenityAssignmentDTO;
+import com.example.hotelproject.dto.BulkAmenityAssignmentResultDTO;
+import com.example.hotelproject.dto.BulkHotelDeletionDTO;
+import com.example.hotelproject.dto.BulkHotelDeletionResultDTO;
 import com.example.hotelproject.dto.ContactDTO;
 import com.example.hotelproject.dto.HotelDTO;
+import com.example.hotelproject.dto.HotelFilterDTO;
 import com.example.hotelproject.dto.HotelShortDTO;
 import com.example.hotelproject.entity.*;
 import com.example.hotelproject.exception.HotelAlreadyExistsException;
 import com.example.hotelproject.exception.HotelNotFoundException;
+import com.example.hotelproject.exception.InvalidPatchException;
 import com.example.hotelproject.exception.MissingSearchParameterException;
 import com.example.hotelproject.mapper.HotelMapper;
 import com.example.hotelproject.repository.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,25 +50,52 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class HotelService {
 
+    // Повторы слияния amenities при конфликте версий отеля
+    static final String OPTIMISTIC_LOCK_RETRIES_METRIC = "hotel.optimistic.lock.retries";
+    static final String OPTIMISTIC_LOCK_EXHAUSTED_METRIC = "hotel.optimistic.lock.exhausted";
+    private static final int AMENITY_MERGE_MAX_ATTEMPTS = 10;
+    private static final long AMENITY_MERGE_BACKOFF_MS = 25;
+
+    // Размер пачки id для массовых операций (ограничение на число параметров в IN)
+    static final int BULK_BATCH_SIZE = 1000;
+
+    // Поля, которые можно менять через PATCH /hotels/{id}
+    private static final Set<String> HOTEL_PATCH_FIELDS = Set.of("name", "description", "brand", "amenities");
+    private static final Set<String> ADDRESS_PATCH_FIELDS = Set.of("houseNumber", "street", "city", "country", "postCode");
+    private static final Set<String> CONTACT_PATCH_FIELDS = Set.of("phone", "email");
+    private static final Set<String> ARRIVAL_TIME_PATCH_FIELDS = Set.of("checkIn", "checkOut");
+    private static final List<String> PATCH_SECTIONS = List.of("address", "contacts", "arrivalTime");
+
     private final HotelRepository hotelRepository;
     private final BrandRepository brandRepository;
     private final CountryRepository countryRepository;
     private final CityRepository cityRepository;
     private final StreetRepository streetRepository;
     private final AmenityRepository amenityRepository;
+    private final AddressRepository addressRepository;
+    private final ContactRepository contactRepository;
+    private final ArrivalTimeRepository arrivalTimeRepository;
     private final HotelMapper hotelMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ShardRouter shardRouter;
 
     // GET /hotels - краткая информация
     public List<HotelShortDTO> getAllHotelsShortInfo() {
-        List<Hotel> hotels = hotelRepository.findAll();
-        return hotelMapper.toShortDTOList(hotels);
+        return onEveryShard(() -> toShortDTOs(hotelRepository.findAll())).stream()
+                .flatMap(List::stream)
+                .toList();
     }
 
     // GET /hotels/{id} - полная информация
     public HotelDTO getHotelById(Long id) {
-        Hotel hotel = hotelRepository.findById(id)
-                .orElseThrow(() -> new HotelNotFoundException("Hotel not found with id: " + id));
-        return hotelMapper.toDTO(hotel);
+        return onHotelShard(id, true, () -> {
+            Hotel hotel = hotelRepository.findById(id)
+                    .orElseThrow(() -> new HotelNotFoundException("Hotel not found with id: " + id));
+            return toDTO(hotel);
+        });
     }
 
     // GET /search - поиск по параметру (поддержка одного или нескольких значений)
@@ -57,37 +107,47 @@ public class HotelService {
             List<String> amenities
     ) {
         // Фильтруем пустые строки из списков
-        brands = filterEmptyStrings(brands);
-        cities = filterEmptyStrings(cities);
-        countries = filterEmptyStrings(countries);
-        amenities = filterEmptyStrings(amenities);
+        List<String> brandNames = filterEmptyStrings(brands);
+        List<String> cityNames = filterEmptyStrings(cities);
+        List<String> countryNames = filterEmptyStrings(countries);
+        List<String> amenityNames = filterEmptyStrings(amenities);
 
         // Проверяем, что хотя бы один параметр передан
-        boolean hasName = name != null && !name.trim().isEmpty();
-        boolean hasBrands = brands != null && !brands.isEmpty();
-        boolean hasCities = cities != null && !cities.isEmpty();
-        boolean hasCountries = countries != null && !countries.isEmpty();
-        boolean hasAmenities = amenities != null && !amenities.isEmpty();
-
-        if (!hasName && !hasBrands && !hasCities && !hasCountries && !hasAmenities) {
+        SearchMode mode = SearchMode.of(name, brandNames, cityNames, countryNames, amenityNames);
+        if (mode == null) {
             throw new MissingSearchParameterException("At least one search parameter is required");
         }
 
-        // Ищем по тому параметру, который передан
-        List<Hotel> hotels;
-        if (hasName) {
-            hotels = hotelRepository.findByNameContainingIgnoreCase(name);
-        } else if (hasBrands) {
-            hotels = searchByBrands(brands);
-        } else if (hasCities) {
-            hotels = searchByCities(cities);
-        } else if (hasCountries) {
-            hotels = searchByCountries(countries);
-        } else {
-            hotels = searchByAmenities(amenities);
-        }
+        HotelSearchEvent event = new HotelSearchEvent();
+        event.begin();
+        // Ищем по тому параметру, который передан; при шардировании - на всех шардах параллельно
+        List<HotelShortDTO> result = onEveryShard(() -> {
+            List<Hotel> hotels = switch (mode) {
+                case NAME -> hotelRepository.findByNameContainingIgnoreCase(name);
+                case BRAND -> searchByBrands(brandNames);
+                case CITY -> searchByCities(cityNames);
+                case COUNTRY -> searchByCountries(countryNames);
+                case AMENITY -> searchByAmenities(amenityNames);
+            };
+            return toShortDTOs(hotels);
+        }).stream()
+                .flatMap(List::stream)
+                .toList();
 
-        return hotelMapper.toShortDTOList(hotels);
+        event.end();
+        if (event.shouldCommit()) {
+            event.mode = mode.tag();
+            event.parameterCount = switch (mode) {
+                case NAME -> 1;
+                case BRAND -> brandNames.size();
+                case CITY -> cityNames.size();
+                case COUNTRY -> countryNames.size();
+                case AMENITY -> amenityNames.size();
+            };
+            event.resultSize = result.size();
+            event.commit();
+        }
+        return result;
     }
 
     private List<Hotel> searchByBrands(List<String> brands) {
@@ -138,8 +198,34 @@ public class HotelService {
     public HotelShortDTO createHotel(HotelDTO hotelDTO) {
         log.info("Creating hotel: name={}, brand={}", hotelDTO.getName(), hotelDTO.getBrand());
 
-        validateHotelNotExists(hotelDTO.getName());
+        if (shardRouter.isEnabled()) {
+            // Имя уникально среди всех шардов, а отель сохраняется на шард своей страны
+            creationPhase(HotelCreationPhaseEvent.VALIDATE, hotelDTO, () -> shardRouter.onAllShards(true, () -> {
+                validateHotelNotExists(hotelDTO.getName());
+                return null;
+            }));
+            String country = hotelDTO.getAddress() != null ? hotelDTO.getAddress().getCountry() : null;
+            return shardRouter.onShard(shardRouter.shardOfCountry(country), false, () -> saveHotel(hotelDTO));
+        }
+
+        creationPhase(HotelCreationPhaseEvent.VALIDATE, hotelDTO, () -> {
+            validateHotelNotExists(hotelDTO.getName());
+            return null;
+        });
+        return saveHotel(hotelDTO);
+    }
 
+    private HotelShortDTO saveHotel(HotelDTO hotelDTO) {
+        Hotel hotel = creationPhase(HotelCreationPhaseEvent.RESOLVE, hotelDTO, () -> resolveHotel(hotelDTO));
+        return creationPhase(HotelCreationPhaseEvent.PERSIST, hotelDTO, () -> {
+            Hotel savedHotel = hotelRepository.save(hotel);
+            log.info("Hotel created successfully: id={}, name={}", savedHotel.getId(), savedHotel.getName());
+            return hotelMapper.toShortDTO(savedHotel);
+        });
+    }
+
+    // Новый отель со связями; справочники находятся по имени или создаются
+    private Hotel resolveHotel(HotelDTO hotelDTO) {
         Hotel hotel = hotelMapper.toEntity(hotelDTO);
         hotel.setBrand(findOrCreateBrand(hotelDTO.getBrand()));
 
@@ -158,11 +244,20 @@ public class HotelService {
         if (hotelDTO.getAmenities() != null && !hotelDTO.getAmenities().isEmpty()) {
             hotel.setAmenities(findOrCreateAmenities(hotelDTO.getAmenities()));
         }
+        return hotel;
+    }
 
-        Hotel savedHotel = hotelRepository.save(hotel);
-        log.info("Hotel created successfully: id={}, name={}", savedHotel.getId(), savedHotel.getName());
-
-        return hotelMapper.toShortDTO(savedHotel);
+    private <T> T creationPhase(String phase, HotelDTO hotelDTO, Supplier<T> work) {
+        HotelCreationPhaseEvent event = new HotelCreationPhaseEvent();
+        event.begin();
+        T result = work.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = phase;
+            event.hotel = hotelDTO.getName();
+            event.commit();
+        }
+        return result;
     }
 
     private void validateHotelNotExists(String name) {
@@ -173,12 +268,11 @@ public class HotelService {
     }
 
     private Brand findOrCreateBrand(String brandName) {
-        return brandRepository.findByName(brandName)
-                .orElseGet(() -> {
-                    Brand newBrand = new Brand();
-                    newBrand.setName(brandName);
-                    return brandRepository.save(newBrand);
-                });
+        return findOrCreate("brand", brandName, brandRepository::findByName, () -> {
+            Brand newBrand = new Brand();
+            newBrand.setName(brandName);
+            return brandRepository.save(newBrand);
+        });
     }
 
     private Address createAddress(AddressDTO addressDTO, Hotel hotel) {
@@ -196,32 +290,29 @@ public class HotelService {
     }
 
     private Country findOrCreateCountry(String countryName) {
-        return countryRepository.findByName(countryName)
-                .orElseGet(() -> {
-                    Country newCountry = new Country();
-                    newCountry.setName(countryName);
-                    return countryRepository.save(newCountry);
-                });
+        return findOrCreate("country", countryName, countryRepository::findByName, () -> {
+            Country newCountry = new Country();
+            newCountry.setName(countryName);
+            return countryRepository.save(newCountry);
+        });
     }
 
     private City findOrCreateCity(String cityName, Country country) {
-        return cityRepository.findByName(cityName)
-                .orElseGet(() -> {
-                    City newCity = new City();
-                    newCity.setName(cityName);
-                    newCity.setCountry(country);
-                    return cityRepository.save(newCity);
-                });
+        return findOrCreate("city", cityName, cityRepository::findByName, () -> {
+            City newCity = new City();
+            newCity.setName(cityName);
+            newCity.setCountry(country);
+            return cityRepository.save(newCity);
+        });
     }
 
     private Street findOrCreateStreet(String streetName, City city) {
-        return streetRepository.findByName(streetName)
-                .orElseGet(() -> {
-                    Street newStreet = new Street();
-                    newStreet.setName(streetName);
-                    newStreet.setCity(city);
-                    return streetRepository.save(newStreet);
-                });
+        return findOrCreate("street", streetName, streetRepository::findByName, () -> {
+            Street newStreet = new Street();
+            newStreet.setName(streetName);
+            newStreet.setCity(city);
+            return streetRepository.save(newStreet);
+        });
     }
 
     private Contact createContact(ContactDTO contactDTO, Hotel hotel) {
@@ -243,22 +334,55 @@ public class HotelService {
     private List<Amenity> findOrCreateAmenities(List<String> amenityNames) {
         List<Amenity> amenities = new ArrayList<>();
         for (String amenityName : amenityNames) {
-            Amenity amenity = amenityRepository.findByName(amenityName)
-                    .orElseGet(() -> {
-                        Amenity newAmenity = new Amenity();
-                        newAmenity.setName(amenityName);
-                        return amenityRepository.save(newAmenity);
-                    });
-            amenities.add(amenity);
+            amenities.add(findOrCreate("amenity", amenityName, amenityRepository::findByName, () -> {
+                Amenity newAmenity = new Amenity();
+                newAmenity.setName(amenityName);
+                return amenityRepository.save(newAmenity);
+            }));
         }
         return amenities;
     }
 
+    private <T> T findOrCreate(String dictionary, String name, Function<String, Optional<T>> find, Supplier<T> create) {
+        DictionaryLookupEvent event = new DictionaryLookupEvent();
+        event.begin();
+        Optional<T> existing = find.apply(name);
+        T result = existing.orElseGet(create);
+        event.end();
+        if (event.shouldCommit()) {
+            event.dictionary = dictionary;
+            event.name = name;
+            event.found = existing.isPresent();
+            event.commit();
+        }
+        return result;
+    }
+
     //POST /hotels/{id}/amenities - добавление списка amenities к отелю
-    @Transactional
+    // Слияние идемпотентно: при конфликте версий перечитываем отель в новой транзакции и применяем его заново
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public HotelDTO addAmenities(Long id, List<String> amenities) {
-        log.info("Adding amenities to hotel id={}: amenities={}", id, amenities);
+        log.debug("Adding amenities to hotel id={}: amenities={}", id, amenities);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return shardRouter.isEnabled()
+                        ? shardRouter.onShard(shardRouter.shardOf(id), false, () -> mergeAmenities(id, amenities))
+                        : transactionTemplate.execute(status -> mergeAmenities(id, amenities));
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= AMENITY_MERGE_MAX_ATTEMPTS) {
+                    log.warn("Giving up adding amenities to hotel id={} after {} attempts", id, attempt);
+                    meterRegistry.counter(OPTIMISTIC_LOCK_EXHAUSTED_METRIC, "operation", "addAmenities").increment();
+                    throw ex;
+                }
+                meterRegistry.counter(OPTIMISTIC_LOCK_RETRIES_METRIC, "operation", "addAmenities").increment();
+                log.info("Hotel id={} was modified concurrently, retrying amenity merge (attempt {})", id, attempt + 1);
+                backOffBeforeRetry(attempt);
+            }
+        }
+    }
 
+    private HotelDTO mergeAmenities(Long id, List<String> amenities) {
         Hotel hotel = hotelRepository.findById(id)
                 .orElseThrow(() -> new HotelNotFoundException("Hotel not found with id: " + id));
 
@@ -272,9 +396,9 @@ public class HotelService {
 
             if (!hotel.getAmenities().contains(amenity)) {
                 hotel.getAmenities().add(amenity);
-                log.info("Added amenity '{}' to hotel '{}'", amenityName, hotel.getName());
+                log.debug("Added amenity '{}' to hotel '{}'", amenityName, hotel.getName());
             } else {
-                log.info("Amenity '{}' already exists for hotel '{}'", amenityName, hotel.getName());
+                log.debug("Amenity '{}' already exists for hotel '{}'", amenityName, hotel.getName());
             }
         }
 
@@ -285,24 +409,416 @@ public class HotelService {
         return hotelMapper.toDTO(savedHotel);
     }
 
+    // Случайная пауза растёт с номером попытки, чтобы конкурирующие запросы разошлись
+    private void backOffBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, AMENITY_MERGE_BACKOFF_MS * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying amenity merge", e);
+        }
+    }
+
+    // PATCH /hotels/{id} - частичное обновление (JSON Merge Patch, RFC 7396): null удаляет значение, массив заменяется целиком
+    // Отель загружается только при изменении его собственных полей, адрес/контакты/время заезда - только если они есть в патче.
+    // Благодаря @DynamicUpdate в UPDATE попадают только изменённые колонки
+    @Transactional
+    public void patchHotel(Long id, JsonNode patch) {
+        onHotelShard(id, false, () -> {
+            applyPatch(id, patch);
+            return null;
+        });
+    }
+
+    private void applyPatch(Long id, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Patch must be a JSON object");
+        }
+        log.debug("Patching hotel id={}: {}", id, patch);
+
+        // Сначала проверяем весь патч, чтобы не делать запросов к БД для заведомо неверных данных
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+        ObjectNode hotelFields = ((ObjectNode) patch).deepCopy().remove(PATCH_SECTIONS);
+        HotelDTO hotelPatch = readPatch(hotelFields, HotelDTO.class, HOTEL_PATCH_FIELDS, "", fieldErrors);
+        AddressDTO addressPatch = readPatchSection(patch, "address", AddressDTO.class, ADDRESS_PATCH_FIELDS, fieldErrors);
+        ContactDTO contactPatch = readPatchSection(patch, "contacts", ContactDTO.class, CONTACT_PATCH_FIELDS, fieldErrors);
+        ArrivalTimeDTO arrivalTimePatch = readPatchSection(patch, "arrivalTime", ArrivalTimeDTO.class, ARRIVAL_TIME_PATCH_FIELDS, fieldErrors);
+        if (patch.has("arrivalTime") && patch.get("arrivalTime").has("checkIn") && arrivalTimePatch != null
+                && arrivalTimePatch.getCheckIn() == null) {
+            fieldErrors.putIfAbsent("arrivalTime.checkIn", "Check-in time is required");
+        }
+        if (!fieldErrors.isEmpty()) {
+            throw new InvalidPatchException("Invalid patch", fieldErrors);
+        }
+
+        if (!hotelRepository.existsById(id)) {
+            throw new HotelNotFoundException("Hotel not found with id: " + id);
+        }
+        if (!hotelFields.isEmpty()) {
+            applyHotelPatch(id, hotelFields, hotelPatch);
+        }
+
+        if (patch.has("address")) {
+            patchAddress(id, patch.get("address"), addressPatch);
+        }
+        if (patch.has("contacts")) {
+            patchContact(id, patch.get("contacts"), contactPatch);
+        }
+        if (patch.has("arrivalTime")) {
+            patchArrivalTime(id, patch.get("arrivalTime"), arrivalTimePatch);
+        }
+    }
+
+    // Отель не загружается: его адрес, контакты и время заезда (EAGER) потянули бы за собой
+    // улицу, город и страну. Поля меняются одним UPDATE с увеличением версии
+    private void applyHotelPatch(Long id, JsonNode fields, HotelDTO values) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (fields.has("name")) {
+            if (hotelRepository.existsByNameAndIdNot(values.getName(), id)) {
+                log.warn("Hotel patch failed: name '{}' already exists", values.getName());
+                throw new HotelAlreadyExistsException("Hotel '" + values.getName() + "' already exists");
+            }
+            changes.put("name", values.getName());
+        }
+        if (fields.has("description")) {
+            changes.put("description", values.getDescription());
+        }
+        if (fields.has("brand")) {
+            changes.put("brand", findOrCreateBrand(values.getBrand()));
+        }
+        hotelRepository.updateHotelFields(id, changes);
+
+        if (fields.has("amenities")) {
+            List<String> amenityNames = filterEmptyStrings(values.getAmenities());
+            List<Long> amenityIds = amenityNames == null
+                    ? List.of()
+                    : findOrCreateAmenities(amenityNames.stream().distinct().toList()).stream().map(Amenity::getId).toList();
+            hotelRepository.replaceAmenities(id, amenityIds);
+        }
+    }
+
+    private void patchAddress(Long id, JsonNode fields, AddressDTO values) {
+        Address address = addressRepository.findById(id).orElse(null);
+        if (fields.isNull()) {
+            if (address != null) {
+                addressRepository.delete(address);
+            }
+            return;
+        }
+        if (address == null) {
+            validateNewPatchSection(values, "address");
+            addressRepository.save(createAddress(values, hotelReference(id)));
+            return;
+        }
+
+        if (fields.has("houseNumber")) {
+            address.setHouseNumber(values.getHouseNumber());
+        }
+        if (fields.has("postCode")) {
+            address.setPostcode(values.getPostCode());
+        }
+        if (fields.has("street") || fields.has("city") || fields.has("country")) {
+            Street current = address.getStreet();
+            String countryName = fields.has("country") ? values.getCountry() : current.getCity().getCountry().getName();
+            String cityName = fields.has("city") ? values.getCity() : current.getCity().getName();
+            String streetName = fields.has("street") ? values.getStreet() : current.getName();
+
+            Country country = findOrCreateCountry(countryName);
+            City city = findOrCreateCity(cityName, country);
+            address.setStreet(findOrCreateStreet(streetName, city));
+        }
+    }
+
+    private void patchContact(Long id, JsonNode fields, ContactDTO values) {
+        Contact contact = contactRepository.findById(id).orElse(null);
+        if (fields.isNull()) {
+            if (contact != null) {
+                contactRepository.delete(contact);
+            }
+            return;
+        }
+        if (contact == null) {
+            validateNewPatchSection(values, "contacts");
+            contactRepository.save(createContact(values, hotelReference(id)));
+            return;
+        }
+
+        if (fields.has("phone")) {
+            contact.setPhone(values.getPhone());
+        }
+        if (fields.has("email")) {
+            contact.setEmail(values.getEmail());
+        }
+    }
+
+    private void patchArrivalTime(Long id, JsonNode fields, ArrivalTimeDTO values) {
+        ArrivalTime arrivalTime = arrivalTimeRepository.findById(id).orElse(null);
+        if (fields.isNull()) {
+            if (arrivalTime != null) {
+                arrivalTimeRepository.delete(arrivalTime);
+            }
+            return;
+        }
+        if (arrivalTime == null) {
+            if (values.getCheckIn() == null) {
+                throw new InvalidPatchException("Cannot create arrivalTime from an incomplete patch",
+                        Map.of("arrivalTime.checkIn", "Check-in time is required"));
+            }
+            arrivalTimeRepository.save(createArrivalTime(values, hotelReference(id)));
+            return;
+        }
+
+        if (fields.has("checkIn")) {
+            arrivalTime.setCheckIn(values.getCheckIn());
+        }
+        if (fields.has("checkOut")) {
+            arrivalTime.setCheckOut(values.getCheckOut());
+        }
+    }
+
+    // Для новой дочерней сущности нужен отель только как ссылка на id (@MapsId), без загрузки
+    private Hotel hotelReference(Long id) {
+        return hotelRepository.getReferenceById(id);
+    }
+
+    private <T> T readPatchSection(JsonNode patch, String section, Class<T> dtoClass,
+                                   Set<String> allowedFields, Map<String, String> fieldErrors) {
+        JsonNode node = patch.get(section);
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (!node.isObject()) {
+            fieldErrors.put(section, "Must be an object or null");
+            return null;
+        }
+        return readPatch(node, dtoClass, allowedFields, section + ".", fieldErrors);
+    }
+
+    // Проверяются только поля, присутствующие в патче: отсутствующие поля не меняются
+    private <T> T readPatch(JsonNode node, Class<T> dtoClass, Set<String> allowedFields,
+                            String prefix, Map<String, String> fieldErrors) {
+        node.fieldNames().forEachRemaining(field -> {
+            if (!allowedFields.contains(field)) {
+                fieldErrors.put(prefix + field, "id".equals(field) ? "Field cannot be changed" : "Unknown field");
+            }
+        });
+
+        T values;
+        try {
+            values = objectMapper.treeToValue(node, dtoClass);
+        } catch (JsonMappingException ex) {
+            String field = ex.getPath().isEmpty() ? "" : ex.getPath().getFirst().getFieldName();
+            fieldErrors.putIfAbsent(prefix + field, "Invalid value type");
+            return null;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed patch", ex);
+        }
+
+        node.fieldNames().forEachRemaining(field -> {
+            if (allowedFields.contains(field)) {
+                validator.validateProperty(values, field)
+                        .forEach(violation -> fieldErrors.putIfAbsent(prefix + field, violation.getMessage()));
+            }
+        });
+        return values;
+    }
+
+    // Если адреса/контактов ещё нет, патч должен содержать все обязательные поля
+    private void validateNewPatchSection(Object values, String section) {
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+        validator.validate(values).forEach(violation ->
+                fieldErrors.putIfAbsent(section + "." + violation.getPropertyPath(), violation.getMessage()));
+        if (!fieldErrors.isEmpty()) {
+            throw new InvalidPatchException("Cannot create " + section + " from an incomplete patch", fieldErrors);
+        }
+    }
+
+    // POST /hotels/amenities/bulk - добавление amenities сразу многим отелям (по списку id или по фильтру)
+    // Работает набором SQL-запросов: поиск amenities, выборка id по фильтру и по два запроса на каждую пачку отелей
+    @Transactional
+    public BulkAmenityAssignmentResultDTO assignAmenitiesInBulk(BulkAmenityAssignmentDTO request) {
+        List<String> filteredNames = filterEmptyStrings(request.getAmenities());
+        if (filteredNames == null) {
+            throw new IllegalArgumentException("At least one amenity is required");
+        }
+        List<String> amenityNames = filteredNames.stream().distinct().toList();
+
+        List<BulkAmenityAssignmentResultDTO> results = forSelectedHotels(request.getHotelIds(), request.getFilter(),
+                hotelIds -> linkAmenitiesInBatches(amenityNames, hotelIds));
+        BulkAmenityAssignmentResultDTO result = BulkAmenityAssignmentResultDTO.builder()
+                .hotelsMatched(results.stream().mapToInt(BulkAmenityAssignmentResultDTO::getHotelsMatched).sum())
+                .amenitiesCreated(results.stream().mapToInt(BulkAmenityAssignmentResultDTO::getAmenitiesCreated).sum())
+                .assignmentsCreated(results.stream().mapToInt(BulkAmenityAssignmentResultDTO::getAssignmentsCreated).sum())
+                .build();
+
+        log.info("Bulk amenity assignment done: hotels={}, amenitiesCreated={}, assignmentsCreated={}",
+                result.getHotelsMatched(), result.getAmenitiesCreated(), result.getAssignmentsCreated());
+        return result;
+    }
+
+    private BulkAmenityAssignmentResultDTO linkAmenitiesInBatches(List<String> amenityNames, List<Long> hotelIds) {
+        log.info("Bulk assigning amenities {} to {} hotels", amenityNames, hotelIds.size());
+
+        List<Amenity> amenities = new ArrayList<>(amenityRepository.findByNameIn(amenityNames));
+        Set<String> existingNames = amenities.stream().map(Amenity::getName).collect(Collectors.toSet());
+        List<Amenity> missing = amenityNames.stream()
+                .filter(amenityName -> !existingNames.contains(amenityName))
+                .map(amenityName -> Amenity.builder().name(amenityName).build())
+                .toList();
+        amenities.addAll(amenityRepository.saveAll(missing));
+        List<Long> amenityIds = amenities.stream().map(Amenity::getId).toList();
+
+        int hotelsMatched = 0;
+        int assignmentsCreated = 0;
+        for (int from = 0; from < hotelIds.size(); from += BULK_BATCH_SIZE) {
+            List<Long> batch = hotelIds.subList(from, Math.min(from + BULK_BATCH_SIZE, hotelIds.size()));
+            hotelsMatched += hotelRepository.incrementVersions(batch);
+            assignmentsCreated += hotelRepository.linkAmenities(batch, amenityIds);
+        }
+        return BulkAmenityAssignmentResultDTO.builder()
+                .hotelsMatched(hotelsMatched)
+                .amenitiesCreated(missing.size())
+                .assignmentsCreated(assignmentsCreated)
+                .build();
+    }
+
+    // DELETE /hotels/{id} - удаление отеля вместе с адресом, контактами, временем заезда и связями с amenities
+    @Transactional
+    public void deleteHotel(Long id) {
+        log.info("Deleting hotel id={}", id);
+        if (onHotelShard(id, false, () -> hotelRepository.deleteHotels(List.of(id))) == 0) {
+            throw new HotelNotFoundException("Hotel not found with id: " + id);
+        }
+    }
+
+    // POST /hotels/bulk-delete - удаление отелей по списку id или по фильтру, пачками по BULK_BATCH_SIZE
+    @Transactional
+    public BulkHotelDeletionResultDTO deleteHotelsInBulk(BulkHotelDeletionDTO request) {
+        List<BulkHotelDeletionResultDTO> results = forSelectedHotels(request.getHotelIds(), request.getFilter(), hotelIds -> {
+            log.info("Bulk deleting {} hotels", hotelIds.size());
+            int hotelsDeleted = 0;
+            for (int from = 0; from < hotelIds.size(); from += BULK_BATCH_SIZE) {
+                hotelsDeleted += hotelRepository.deleteHotels(hotelIds.subList(from, Math.min(from + BULK_BATCH_SIZE, hotelIds.size())));
+            }
+            return BulkHotelDeletionResultDTO.builder()
+                    .hotelsMatched(hotelIds.size())
+                    .hotelsDeleted(hotelsDeleted)
+                    .build();
+        });
+        BulkHotelDeletionResultDTO result = BulkHotelDeletionResultDTO.builder()
+                .hotelsMatched(results.stream().mapToInt(BulkHotelDeletionResultDTO::getHotelsMatched).sum())
+                .hotelsDeleted(results.stream().mapToInt(BulkHotelDeletionResultDTO::getHotelsDeleted).sum())
+                .build();
+
+        log.info("Bulk hotel deletion done: matched={}, deleted={}", result.getHotelsMatched(), result.getHotelsDeleted());
+        return result;
+    }
+
+    // Отели для массовой операции задаются либо списком id, либо фильтром.
+    // При шардировании id группируются по шардам, а фильтр выполняется на каждом шарде
+    private <T> List<T> forSelectedHotels(List<Long> hotelIds, HotelFilterDTO filter, Function<List<Long>, T> work) {
+        boolean hasIds = hotelIds != null && !hotelIds.isEmpty();
+        if (hasIds && filter != null) {
+            throw new IllegalArgumentException("Either hotelIds or filter must be specified, not both");
+        }
+        if (hasIds) {
+            List<Long> distinctIds = hotelIds.stream().distinct().toList();
+            if (!shardRouter.isEnabled()) {
+                return List.of(work.apply(distinctIds));
+            }
+            Map<Integer, List<Long>> idsByShard = distinctIds.stream()
+                    .collect(Collectors.groupingBy(shardRouter::shardOf, TreeMap::new, Collectors.toList()));
+            return idsByShard.entrySet().stream()
+                    .map(entry -> shardRouter.onShard(entry.getKey(), false, () -> work.apply(entry.getValue())))
+                    .toList();
+        }
+        if (filter == null) {
+            throw new MissingSearchParameterException("Either hotelIds or filter is required");
+        }
+
+        String name = filter.getName() != null && !filter.getName().trim().isEmpty() ? filter.getName() : null;
+        HotelCriteria criteria = new HotelCriteria(
+                name,
+                filterEmptyStrings(filter.getBrand()),
+                filterEmptyStrings(filter.getCity()),
+                filterEmptyStrings(filter.getCountry()),
+                filterEmptyStrings(filter.getAmenity())
+        );
+        if (criteria.isEmpty()) {
+            throw new MissingSearchParameterException("At least one filter parameter is required");
+        }
+        Supplier<T> byFilter = () -> work.apply(hotelRepository.findHotelIds(criteria));
+        return shardRouter.isEnabled() ? shardRouter.onAllShards(false, byFilter) : List.of(byFilter.get());
+    }
+
+    // Выполняет работу на шарде отеля; без шардирования - в текущей транзакции
+    private <T> T onHotelShard(Long id, boolean readOnly, Supplier<T> work) {
+        return shardRouter.isEnabled() ? shardRouter.onShard(shardRouter.shardOf(id), readOnly, work) : work.get();
+    }
+
+    // Запрос на чтение на всех шардах параллельно; без шардирования - в текущей транзакции
+    private <T> List<T> onEveryShard(Supplier<T> work) {
+        return shardRouter.isEnabled() ? shardRouter.onAllShards(true, work) : List.of(work.get());
+    }
+
     //GET /histogram/{param} - получение колличества отелей сгруппированных по каждому значению указанного параметра. Параметр: brand, city, country, amenities.
     public Map<String, Long> getHotelListGroupByParam(String param) {
-        log.info("Get group list from service with param = {}", param);
-
-        List<Object[]> results = switch (param.toLowerCase()) {
-            case "city", "cities" -> cityRepository.groupHotelsByCities();
-            case "country", "countries" -> countryRepository.groupHotelsByCountry();
-            case "brand", "brands" -> brandRepository.groupHotelsByBrands();
-            case "amenity", "amenities" -> amenityRepository.groupHotelsByAmenities();
-            default -> throw new IllegalArgumentException("Invalid parameter: " + param);
+        log.debug("Get group list from service with param = {}", param);
+
+        HistogramParameter parameter = HistogramParameter.of(param);
+        Supplier<List<Object[]>> query = switch (parameter) {
+            case CITY -> cityRepository::groupHotelsByCities;
+            case COUNTRY -> countryRepository::groupHotelsByCountry;
+            case BRAND -> brandRepository::groupHotelsByBrands;
+            case AMENITIES -> amenityRepository::groupHotelsByAmenities;
         };
 
+        HotelHistogramEvent event = new HotelHistogramEvent();
+        event.begin();
         // Преобразуем List<Object[]> в Map<String, Long>
         //JPQL не может напрямую вернуть Map, поэтому возвращаем массив объектов и преобразуем в Map в Java.
-        return results.stream()
+        // При шардировании счётчики одного значения с разных шардов суммируются
+        Map<String, Long> histogram = onEveryShard(query).stream()
+                .flatMap(List::stream)
                 .collect(Collectors.toMap(
                         row -> (String) row[0],      // название (city/country/brand/amenity)
-                        row -> (Long) row[1]       // количество отелей
+                        row -> (Long) row[1],      // количество отелей
+                        Long::sum
                 ));
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.parameter = parameter.tag();
+            event.groups = histogram.size();
+            event.commit();
+        }
+        return histogram;
+    }
+
+    // Преобразование в DTO; связи, не загруженные графом запроса, загружались бы здесь, и это видно в JFR
+    private List<HotelShortDTO> toShortDTOs(List<Hotel> hotels) {
+        HotelMappingEvent event = new HotelMappingEvent();
+        event.begin();
+        List<HotelShortDTO> result = hotelMapper.toShortDTOList(hotels);
+        event.end();
+        if (event.shouldCommit()) {
+            event.target = HotelShortDTO.class.getSimpleName();
+            event.hotels = hotels.size();
+            event.commit();
+        }
+        return result;
+    }
+
+    private HotelDTO toDTO(Hotel hotel) {
+        HotelMappingEvent event = new HotelMappingEvent();
+        event.begin();
+        HotelDTO result = hotelMapper.toDTO(hotel);
+        event.end();
+        if (event.shouldCommit()) {
+            event.target = HotelDTO.class.getSimpleName();
+            event.hotels = 1;
+            event.commit();
+        }
+        return result;
     }
 }
\ No newline at end of file
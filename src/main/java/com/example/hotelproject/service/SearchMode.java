@@ -0,0 +1,44 @@
+package com.example.hotelproject.service;
+
+import java.util.List;
+
+/**
+ * Which criterion a GET /search request is answered by. Only the first criterion given, in
+ * declaration order, is used; the mode is also the search.mode tag of the request metrics.
+ */
+public enum SearchMode {
+    NAME,
+    BRAND,
+    CITY,
+    COUNTRY,
+    AMENITY;
+
+    // null - ни одного параметра не передано
+    public static SearchMode of(String name, List<String> brands, List<String> cities,
+                                List<String> countries, List<String> amenities) {
+        if (hasText(name)) {
+            return NAME;
+        } else if (hasValues(brands)) {
+            return BRAND;
+        } else if (hasValues(cities)) {
+            return CITY;
+        } else if (hasValues(countries)) {
+            return COUNTRY;
+        } else if (hasValues(amenities)) {
+            return AMENITY;
+        }
+        return null;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private static boolean hasValues(List<String> values) {
+        return values != null && values.stream().anyMatch(SearchMode::hasText);
+    }
+}
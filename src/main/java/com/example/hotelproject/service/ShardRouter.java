@@ -0,0 +1,127 @@
+package com.example.hotelproject.service;
+
+import com.example.hotelproject.config.QueryCounter;
+import com.example.hotelproject.config.RequestDeadline;
+import com.example.hotelproject.config.ShardContext;
+import com.example.hotelproject.config.ShardingConfig;
+import com.example.hotelproject.config.ShardingProperties;
+import com.example.hotelproject.config.WorkloadClass;
+import com.example.hotelproject.config.WorkloadContext;
+import com.example.hotelproject.exception.HotelNotFoundException;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs work on a shard: selects the shard for the current thread and opens a new transaction there.
+ * Queries that cannot be routed to one shard are sent to all shards in parallel (scatter-gather).
+ * When sharding is disabled there is a single shard 0.
+ */
+@Component
+public class ShardRouter {
+
+    private final boolean enabled;
+    private final int shardCount;
+    private final Map<String, Integer> shardByCountry = new HashMap<>();
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+
+    public ShardRouter(ShardingProperties properties, PlatformTransactionManager transactionManager) {
+        this.enabled = properties.isEnabled();
+        this.shardCount = enabled ? properties.getShards().size() + 1 : 1;
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            for (String country : properties.getShards().get(i).getCountries()) {
+                shardByCountry.put(country.toUpperCase(), i + 1);
+            }
+        }
+
+        // Новая транзакция: соединение внешней транзакции привязано к другому шарду
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    // Шард зашит в id: на шарде N id отелей начинаются с N * SHARD_ID_RANGE
+    public int shardOf(Long hotelId) {
+        long shard = hotelId / ShardingConfig.SHARD_ID_RANGE;
+        if (hotelId < 1 || shard >= shardCount) {
+            throw new HotelNotFoundException("Hotel not found with id: " + hotelId);
+        }
+        return (int) shard;
+    }
+
+    // Отели без адреса и из стран, не закреплённых за шардом, хранятся на шарде 0
+    public int shardOfCountry(String country) {
+        return country == null ? 0 : shardByCountry.getOrDefault(country.toUpperCase(), 0);
+    }
+
+    public <T> T onShard(int shard, boolean readOnly, Supplier<T> work) {
+        Integer previous = ShardContext.current();
+        ShardContext.set(shard);
+        try {
+            return (readOnly ? readTemplate : writeTemplate).execute(status -> work.get());
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    // Результаты возвращаются в порядке шардов
+    public <T> List<T> onAllShards(boolean readOnly, Supplier<T> work) {
+        // Квота соединений класса запроса, его дедлайн, счётчик SQL и MDC действуют и на параллельные запросы к шардам
+        WorkloadClass workload = WorkloadContext.current();
+        Long deadline = RequestDeadline.current();
+        QueryCounter queryCounter = QueryCounter.current();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> futures = new ArrayList<>(shardCount);
+            for (int shard = 0; shard < shardCount; shard++) {
+                int target = shard;
+                futures.add(executor.submit(() -> {
+                    WorkloadContext.set(workload);
+                    RequestDeadline.set(deadline);
+                    QueryCounter.set(queryCounter);
+                    if (mdc != null) {
+                        MDC.setContextMap(mdc);
+                    }
+                    return onShard(target, readOnly, work);
+                }));
+            }
+
+            List<T> results = new ArrayList<>(shardCount);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        }
+    }
+}
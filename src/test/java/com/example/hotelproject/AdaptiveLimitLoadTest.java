@@ -0,0 +1,130 @@
+package com.example.hotelproject;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Overload test of the adaptive concurrency limit: far more clients than the database can serve
+ * (every statement takes 20 ms, see {@link VirtualThreadBenchmarkTest.SlowDataSource}).
+ * Without the limit every request queues and p99 grows with the number of clients; with it
+ * excess requests get 503 at once and p99 of the admitted ones stays bounded.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Adaptive concurrency limit overload test")
+class AdaptiveLimitLoadTest {
+
+    private static final int CLIENTS = 2000;
+    private static final Duration WARM_UP = Duration.ofSeconds(10);
+    private static final Duration RUN_TIME = Duration.ofSeconds(20);
+    // Пауза клиента после 503, как при соблюдении Retry-After в уменьшенном масштабе
+    private static final Duration BACKOFF = Duration.ofMillis(100);
+
+    @ParameterizedTest(name = "adaptive limit={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("GET /property-view/hotels/{id} - latency under overload")
+    void getHotel_Latency_UnderOverload(boolean adaptiveLimit) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                HotelProjectApplication.class, VirtualThreadBenchmarkTest.SlowDatabaseConfig.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=true",
+                        "hotel.adaptive-limit.enabled=" + adaptiveLimit,
+                        "hotel.bulkhead.enabled=false",
+                        "hotel.pool-sizing.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:overload-" + adaptiveLimit
+                                + ";DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=WARN")
+                .run()) {
+            VirtualThreadBenchmarkTest.SlowDataSource.active = true;
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/property-view/hotels/1");
+
+            runClients(uri, WARM_UP);
+            Result result = runClients(uri, RUN_TIME);
+
+            // Then
+            assertThat(result.latenciesMicros()).isNotEmpty();
+            log.info("adaptive limit={}, {} clients: {} ok ({} req/s), p50={} ms, p99={} ms, max={} ms, shed={}, errors={}",
+                    adaptiveLimit, CLIENTS, result.latenciesMicros().size(),
+                    Math.round(result.latenciesMicros().size() / (double) RUN_TIME.toSeconds()),
+                    result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(1.0),
+                    result.shed(), result.errors());
+        } finally {
+            VirtualThreadBenchmarkTest.SlowDataSource.active = false;
+        }
+    }
+
+    private Result runClients(URI uri, Duration duration) throws InterruptedException {
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        LongAdder shed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().executor(executor).build()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+            for (int i = 0; i < CLIENTS; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long startedAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latencies.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+                            } else if (response.statusCode() == 503) {
+                                shed.increment();
+                                Thread.sleep(BACKOFF);
+                            } else {
+                                errors.increment();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(duration.plusMinutes(2).toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return new Result(new ArrayList<>(latencies).stream().sorted().toList(), shed.sum(), errors.sum());
+    }
+
+    private record Result(List<Long> latenciesMicros, long shed, long errors) {
+
+        long percentileMillis(double percentile) {
+            if (latenciesMicros.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latenciesMicros.size()) - 1;
+            return latenciesMicros.get(Math.max(index, 0)) / 1000;
+        }
+    }
+}
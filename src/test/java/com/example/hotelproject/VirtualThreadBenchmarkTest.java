@@ -0,0 +1,187 @@
+package com.example.hotelproject;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares platform-thread and virtual-thread request execution while every SQL statement
+ * takes {@link #DB_LATENCY}, i.e. the database is the bottleneck. Each client sends
+ * GET /property-view/hotels/1 in a loop for {@link #RUN_TIME}; throughput, latency percentiles
+ * and errors are logged per mode. Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Virtual thread request execution benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final Duration DB_LATENCY = Duration.ofMillis(20);
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration RUN_TIME = Duration.ofSeconds(20);
+
+    @ParameterizedTest(name = "virtual threads={0}, clients={1}")
+    @CsvSource({"false, 1000", "true, 1000", "false, 5000", "true, 5000"})
+    @DisplayName("GET /property-view/hotels/{id} - throughput with a slow database")
+    void getHotel_Throughput_WithSlowDatabase(boolean virtualThreads, int clients) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                HotelProjectApplication.class, SlowDatabaseConfig.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + virtualThreads + "-" + clients
+                                + ";DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+                        "hotel.bulkhead.enabled=false",
+                        "hotel.pool-sizing.enabled=false",
+                        "hotel.adaptive-limit.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=WARN")
+                .run()) {
+            SlowDataSource.active = true;
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/property-view/hotels/1");
+
+            runClients(uri, clients, WARM_UP);
+            Result result = runClients(uri, clients, RUN_TIME);
+
+            // Then
+            assertThat(result.latenciesMicros()).isNotEmpty();
+            log.info("{} threads, {} clients: {} requests ({} req/s), p50={} ms, p99={} ms, max={} ms, errors={}",
+                    virtualThreads ? "virtual" : "platform", clients, result.latenciesMicros().size(),
+                    Math.round(result.latenciesMicros().size() / (double) RUN_TIME.toSeconds()),
+                    result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(1.0),
+                    result.errors());
+        } finally {
+            SlowDataSource.active = false;
+        }
+    }
+
+    private Result runClients(URI uri, int clients, Duration duration) throws InterruptedException {
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().executor(executor).build()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long startedAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latencies.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+                            } else {
+                                errors.increment();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(duration.plusMinutes(2).toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return new Result(new ArrayList<>(latencies).stream().sorted().toList(), errors.sum());
+    }
+
+    private record Result(List<Long> latenciesMicros, long errors) {
+
+        long percentileMillis(double percentile) {
+            if (latenciesMicros.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latenciesMicros.size()) - 1;
+            return latenciesMicros.get(Math.max(index, 0)) / 1000;
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class SlowDatabaseConfig {
+
+        // Не Ordered: выполняется после ограничителя соединений и оборачивает уже его
+        @Bean
+        static BeanPostProcessor slowDatabasePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                            ? new SlowDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    // Каждый запрос к БД держит соединение на DB_LATENCY дольше, имитируя медленную БД
+    static class SlowDataSource extends DelegatingDataSource {
+
+        static volatile boolean active;
+
+        SlowDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return proxy(Connection.class, connection, (method, result) -> method.startsWith("prepareStatement")
+                    ? proxy(PreparedStatement.class, (PreparedStatement) result, (statementMethod, statementResult) -> statementResult)
+                    : result);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultDecorator decorator) {
+            return (T) Proxy.newProxyInstance(SlowDataSource.class.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        if (active && type == PreparedStatement.class && method.getName().startsWith("execute")) {
+                            Thread.sleep(DB_LATENCY);
+                        }
+                        try {
+                            return decorator.decorate(method.getName(), method.invoke(target, args));
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getTargetException();
+                        }
+                    });
+        }
+
+        private interface ResultDecorator {
+            Object decorate(String method, Object result);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.hotelproject.config;
+
+import com.example.hotelproject.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BulkheadInterceptor Unit Tests")
+class BulkheadInterceptorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkheadInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties properties = new BulkheadProperties();
+        BulkheadProperties.Limits aggregation = new BulkheadProperties.Limits();
+        aggregation.setMaxConcurrent(1);
+        aggregation.setMaxWait(Duration.ofMillis(20));
+        properties.getClasses().put(WorkloadClass.AGGREGATION, aggregation);
+        interceptor = new BulkheadInterceptor(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        WorkloadContext.clear();
+    }
+
+    @Test
+    @DisplayName("preHandle - should reject request when its workload class is full")
+    void preHandle_ShouldReject_WhenWorkloadClassIsFull() throws Exception {
+        // Given
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler("aggregation"));
+
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("aggregation")))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("hotel.bulkhead.rejected").tag("workload", "aggregation").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("preHandle - should admit other workload classes when one class is full")
+    void preHandle_ShouldAdmitOtherClasses_WhenOneClassIsFull() throws Exception {
+        // Given
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("aggregation"));
+
+        // When
+        boolean admitted = interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("pointRead"));
+
+        // Then
+        assertThat(admitted).isTrue();
+        assertThat(WorkloadContext.current()).isEqualTo(WorkloadClass.POINT_READ);
+    }
+
+    @Test
+    @DisplayName("afterCompletion - should free the slot for the next request")
+    void afterCompletion_ShouldReleaseSlot() throws Exception {
+        // Given
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        interceptor.preHandle(first, new MockHttpServletResponse(), handler("aggregation"));
+
+        // When
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler("aggregation"), null);
+
+        // Then
+        assertThat(WorkloadContext.current()).isNull();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler("aggregation")))
+                .isTrue();
+        assertThat(meterRegistry.get("hotel.bulkhead.queue.time").tag("workload", "aggregation").timer().count())
+                .isEqualTo(2);
+    }
+
+    private HandlerMethod handler(String method) throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(method));
+    }
+
+    static class Endpoints {
+
+        @Workload(WorkloadClass.POINT_READ)
+        public void pointRead() {
+        }
+
+        @Workload(WorkloadClass.AGGREGATION)
+        public void aggregation() {
+        }
+    }
+}
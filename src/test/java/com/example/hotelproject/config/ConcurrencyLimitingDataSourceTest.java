@@ -0,0 +1,81 @@
+package com.example.hotelproject.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitingDataSource Unit Tests")
+class ConcurrencyLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("getConnection - should time out when all permits are in use")
+    void getConnection_ShouldTimeOut_WhenLimitReached() throws SQLException {
+        // Given
+        dataSource.getConnection();
+
+        // When & Then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        verify(targetDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("close - should release the permit only once")
+    void close_ShouldReleasePermitOnce() throws SQLException {
+        // Given
+        Connection guarded = dataSource.getConnection();
+
+        // When
+        guarded.close();
+        guarded.close();
+
+        // Then
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("resize - should apply new limit to later connections")
+    void resize_ShouldChangeLimit() throws SQLException {
+        // Given
+        dataSource.getConnection();
+
+        // When
+        dataSource.resize(2);
+
+        // Then
+        assertThat(dataSource.getLimit()).isEqualTo(2);
+        assertThat(dataSource.getConnection()).isNotNull();
+        assertThat(dataSource.getAvailablePermits()).isZero();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.hotelproject.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DeadlineAwareJpaTransactionManager Unit Tests")
+class DeadlineAwareJpaTransactionManagerTest {
+
+    private final DeadlineAwareJpaTransactionManager transactionManager = new DeadlineAwareJpaTransactionManager();
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("determineTimeout - should keep the default timeout when there is no request deadline")
+    void determineTimeout_ShouldKeepDefault_WhenNoDeadline() {
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+                .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("determineTimeout - should use the time left until the deadline, rounded up to seconds")
+    void determineTimeout_ShouldUseRemainingTime_WhenDeadlineSet() {
+        // Given
+        RequestDeadline.start(Duration.ofMillis(2500));
+
+        // When & Then
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("determineTimeout - should keep a shorter explicit transaction timeout")
+    void determineTimeout_ShouldKeepShorterExplicitTimeout() {
+        // Given
+        RequestDeadline.start(Duration.ofSeconds(10));
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(1);
+
+        // When & Then
+        assertThat(transactionManager.determineTimeout(definition)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("determineTimeout - should throw exception when the deadline has already passed")
+    void determineTimeout_ShouldThrowException_WhenDeadlinePassed() {
+        // Given
+        RequestDeadline.start(Duration.ofMillis(-1));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+                .isInstanceOf(TransactionTimedOutException.class);
+    }
+}
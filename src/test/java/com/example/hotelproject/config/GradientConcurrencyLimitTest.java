@@ -0,0 +1,69 @@
+package com.example.hotelproject.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GradientConcurrencyLimit Unit Tests")
+class GradientConcurrencyLimitTest {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private AdaptiveLimitProperties properties;
+    private GradientConcurrencyLimit limit;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdaptiveLimitProperties();
+        properties.setInitialLimit(20);
+        properties.setMinLimit(4);
+        properties.setMaxLimit(100);
+        properties.setWindowSize(10);
+        limit = new GradientConcurrencyLimit(properties);
+    }
+
+    @Test
+    @DisplayName("onSample - should grow the limit while latency stays stable under load")
+    void onSample_ShouldGrowLimit_WhenLatencyIsStable() {
+        // When
+        sample(20, BASE_RTT, limit.getLimit());
+
+        // Then
+        assertThat(limit.getLimit()).isGreaterThan(properties.getInitialLimit());
+    }
+
+    @Test
+    @DisplayName("onSample - should reduce the limit when latency rises above the tolerance")
+    void onSample_ShouldReduceLimit_WhenLatencyRises() {
+        // Given
+        sample(5, BASE_RTT, limit.getLimit());
+        int before = limit.getLimit();
+
+        // When
+        sample(20, BASE_RTT * 10, limit.getLimit());
+
+        // Then
+        assertThat(limit.getLimit()).isLessThan(before);
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(properties.getMinLimit());
+    }
+
+    @Test
+    @DisplayName("onSample - should keep the limit when the load is far below it")
+    void onSample_ShouldKeepLimit_WhenAppLimited() {
+        // When
+        sample(20, BASE_RTT, 1);
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(properties.getInitialLimit());
+    }
+
+    private void sample(int windows, long rttNanos, int inflight) {
+        for (int i = 0; i < windows * properties.getWindowSize(); i++) {
+            limit.onSample(rttNanos, inflight);
+        }
+    }
+}
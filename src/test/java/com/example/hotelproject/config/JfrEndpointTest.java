@@ -0,0 +1,96 @@
+package com.example.hotelproject.config;
+
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jfr-endpoint;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+        "hotel.jfr.token=secret",
+        "hotel.jfr.max-duration=5s",
+        "hotel.jfr.directory=${java.io.tmpdir}/hotel-jfr-test"
+})
+@AutoConfigureMockMvc
+@DisplayName("JfrEndpoint Tests")
+class JfrEndpointTest {
+
+    private static final String BEARER = "Bearer secret";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /actuator/jfr - should reject requests without a valid bearer token")
+    void recordings_ShouldReturnUnauthorized_WhenTokenInvalid() throws Exception {
+        mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer"));
+        mockMvc.perform(get("/actuator/jfr").header(HttpHeaders.AUTHORIZATION, "Bearer wrong"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("POST /actuator/jfr - should reject durations above the limit and unknown profiles")
+    void start_ShouldReturnBadRequest_WhenLimitsExceeded() throws Exception {
+        mockMvc.perform(post("/actuator/jfr").header(HttpHeaders.AUTHORIZATION, BEARER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"duration\": \"1h\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/actuator/jfr").header(HttpHeaders.AUTHORIZATION, BEARER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"profile\": \"unknown\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /actuator/jfr - should record, limit concurrent recordings and return the .jfr file")
+    void start_ShouldRecordAndDownload() throws Exception {
+        // Given
+        String started = mockMvc.perform(post("/actuator/jfr").header(HttpHeaders.AUTHORIZATION, BEARER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"profile\": \"default\", \"duration\": \"1s\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andReturn().getResponse().getContentAsString();
+        long id = Long.parseLong(started.replaceAll(".*\"id\":(\\d+).*", "$1"));
+
+        // When & Then
+        mockMvc.perform(post("/actuator/jfr").header(HttpHeaders.AUTHORIZATION, BEARER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"duration\": \"1s\"}"))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/property-view/hotels")).andExpect(status().isOk());
+        Thread.sleep(3_000);
+
+        byte[] recording = mockMvc.perform(get("/actuator/jfr/" + id).header(HttpHeaders.AUTHORIZATION, BEARER))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        Path file = Files.createTempFile("downloaded", ".jfr");
+        Files.write(file, recording);
+        assertThat(RecordingFile.readAllEvents(file)).isNotEmpty();
+        Files.delete(file);
+
+        mockMvc.perform(delete("/actuator/jfr/" + id).header(HttpHeaders.AUTHORIZATION, BEARER))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/actuator/jfr/" + id).header(HttpHeaders.AUTHORIZATION, BEARER))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.hotelproject.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Metrics as scraped by Prometheus from /actuator/prometheus after a few REST requests.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metrics;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Prometheus metrics")
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - should tag search requests with handler and search mode")
+    void prometheus_ShouldTagSearchRequests() throws Exception {
+        // Given
+        mockMvc.perform(get("/property-view/search").param("city", "Minsk")).andExpect(status().isOk());
+
+        // When
+        List<String> lines = scrape("http_server_requests_seconds_bucket{");
+
+        // Then
+        assertThat(lines).anySatisfy(line -> assertThat(line)
+                .contains("handler=\"searchHotels\"", "search_mode=\"city\"", "histogram_param=\"none\"", "le=\""));
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - should tag histogram requests with normalized parameter")
+    void prometheus_ShouldTagHistogramRequests() throws Exception {
+        // Given
+        mockMvc.perform(get("/property-view/histogram/cities")).andExpect(status().isOk());
+        mockMvc.perform(get("/property-view/histogram/stars")).andExpect(status().isBadRequest());
+
+        // When
+        List<String> lines = scrape("http_server_requests_seconds_count{");
+
+        // Then
+        assertThat(lines)
+                .anySatisfy(line -> assertThat(line).contains("handler=\"getHotelHistogram\"", "histogram_param=\"city\""))
+                .anySatisfy(line -> assertThat(line).contains("handler=\"getHotelHistogram\"", "histogram_param=\"invalid\""));
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - should expose repository, Hibernate and connection pool metrics")
+    void prometheus_ShouldExposeDataAccessMetrics() throws Exception {
+        // Given
+        mockMvc.perform(get("/property-view/search").param("brand", "Hilton")).andExpect(status().isOk());
+
+        // When & Then
+        assertThat(scrape("hotel_repository_invocations_seconds_bucket{"))
+                .anySatisfy(line -> assertThat(line).contains("method=\"findByBrand_Name\"", "outcome=\"success\""));
+        assertThat(scrape("hotel_repository_rows_count{"))
+                .anySatisfy(line -> assertThat(line).contains("method=\"findByBrand_Name\""));
+        assertThat(scrape("hibernate_query_executions_total")).isNotEmpty();
+        assertThat(scrape("hibernate_entities_loads_total")).isNotEmpty();
+        assertThat(scrape("hikaricp_connections_active")).isNotEmpty();
+    }
+
+    private List<String> scrape(String prefix) throws Exception {
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return body.lines()
+                .filter(line -> line.startsWith(prefix))
+                .toList();
+    }
+}
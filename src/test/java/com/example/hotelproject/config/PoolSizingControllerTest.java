@@ -0,0 +1,158 @@
+package com.example.hotelproject.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Convergence of the pool sizing controller against a simulated database that serves
+ * {@link #DB_CAPACITY} queries in parallel: every query takes {@link #BASE_LATENCY_MS} ms,
+ * and proportionally longer when more connections than the capacity are busy.
+ * Each interval the simulation records synthetic acquire and usage timings and pool state;
+ * like Hikari, it closes connections above a smaller size only one interval later.
+ */
+@DisplayName("PoolSizingController Unit Tests")
+class PoolSizingControllerTest {
+
+    private static final String POOL_NAME = "sizing-test";
+    private static final int DB_CAPACITY = 8;
+    private static final int BASE_LATENCY_MS = 10;
+    private static final int CLIENTS = 16;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Timer acquire = Timer.builder("hikaricp.connections.acquire").tag("pool", POOL_NAME).register(meterRegistry);
+    private final Timer usage = Timer.builder("hikaricp.connections.usage").tag("pool", POOL_NAME).register(meterRegistry);
+    private PoolSizingProperties properties;
+    private PoolSizingController controller;
+
+    private int maximumPoolSize;
+    private int openConnections;
+    private int clients;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PoolSizingProperties();
+        properties.setMinSize(2);
+        properties.setMaxSize(20);
+        properties.setStep(2);
+        properties.setLatencyTolerance(1.3);
+        properties.setShrinkAfter(3);
+        properties.setSettleIntervals(3);
+    }
+
+    @Test
+    @DisplayName("adjust - should grow the pool under load and settle near the database capacity")
+    void adjust_ShouldConvergeNearDatabaseCapacity() {
+        // Given
+        createPool(2);
+        clients = CLIENTS;
+
+        // When
+        List<Integer> sizes = runIntervals(40);
+
+        // Then
+        assertThat(sizes).anyMatch(size -> size >= DB_CAPACITY);
+        assertThat(sizes.subList(30, 40)).allMatch(size -> size >= DB_CAPACITY && size <= DB_CAPACITY + 4);
+        assertThat(controller.getDecisions())
+                .anyMatch(decision -> decision.newSize() < decision.previousSize());
+    }
+
+    @Test
+    @DisplayName("adjust - should shrink only once when the database is saturated")
+    void adjust_ShouldNotShrinkAgain_WhileOldConnectionsAreOpen() {
+        // Given
+        createPool(2);
+        clients = CLIENTS;
+
+        // When
+        runIntervals(40);
+
+        // Then
+        List<PoolSizingDecision> shrinks = controller.getDecisions().stream()
+                .filter(decision -> decision.newSize() < decision.previousSize())
+                .toList();
+        assertThat(shrinks).hasSize(1);
+        assertThat(shrinks.getFirst().newSize()).isGreaterThanOrEqualTo(DB_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("adjust - should shrink the pool after several idle intervals")
+    void adjust_ShouldShrinkPool_WhenIdle() {
+        // Given
+        createPool(10);
+
+        // When
+        runIntervals(properties.getShrinkAfter());
+
+        // Then
+        assertThat(controller.getCurrentSize()).isEqualTo(8);
+        assertThat(controller.getDecisions()).hasSize(1);
+    }
+
+    private void createPool(int size) {
+        maximumPoolSize = size;
+        openConnections = size;
+
+        HikariConfigMXBean config = mock(HikariConfigMXBean.class);
+        when(config.getMaximumPoolSize()).thenAnswer(invocation -> maximumPoolSize);
+        doAnswer(invocation -> maximumPoolSize = invocation.getArgument(0)).when(config).setMaximumPoolSize(anyInt());
+
+        HikariPoolMXBean state = mock(HikariPoolMXBean.class);
+        when(state.getTotalConnections()).thenAnswer(invocation -> openConnections);
+        when(state.getActiveConnections()).thenAnswer(invocation -> Math.min(openConnections, clients));
+        when(state.getIdleConnections()).thenAnswer(invocation -> Math.max(0, openConnections - clients));
+        when(state.getThreadsAwaitingConnection()).thenAnswer(invocation -> Math.max(0, clients - openConnections));
+
+        HikariDataSource pool = mock(HikariDataSource.class);
+        when(pool.getPoolName()).thenReturn(POOL_NAME);
+        when(pool.getHikariConfigMXBean()).thenReturn(config);
+        when(pool.getHikariPoolMXBean()).thenReturn(state);
+
+        controller = new PoolSizingController(pool, null, properties, meterRegistry, false);
+    }
+
+    // Интервал нагрузки и шаг регулятора; возвращает размер пула после каждого шага
+    private List<Integer> runIntervals(int intervals) {
+        List<Integer> sizes = new ArrayList<>();
+        int previousSize = maximumPoolSize;
+        for (int i = 0; i < intervals; i++) {
+            recordInterval();
+            controller.adjust();
+            // Новые соединения открываются сразу, лишние закрываются через интервал, когда их вернут в пул
+            openConnections = Math.max(maximumPoolSize, previousSize);
+            previousSize = maximumPoolSize;
+            sizes.add(maximumPoolSize);
+        }
+        return sizes;
+    }
+
+    // Запрос держит соединение дольше, когда занятых соединений больше, чем БД обслуживает параллельно
+    private void recordInterval() {
+        int busy = Math.min(openConnections, clients);
+        if (busy == 0) {
+            return;
+        }
+        Duration latency = Duration.ofMillis((long) (BASE_LATENCY_MS * Math.max(1.0, busy / (double) DB_CAPACITY)));
+        Duration wait = Duration.ofMillis(clients > openConnections ? 20 : 1);
+        for (int i = 0; i < 100; i++) {
+            usage.record(latency);
+            acquire.record(wait);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-count-filter;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+        "hotel.query-count.expose-header=true",
+        "hotel.query-count.endpoints[getHotelHistogram]=0",
+        "hotel.query-count.endpoints[getHotel]=100"
+})
+@AutoConfigureMockMvc
+@DisplayName("QueryCountFilter Tests")
+class QueryCountFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("GET /property-view/histogram/{param} - should flag request above its statement budget")
+    void histogram_ShouldFlagRequest_WhenBudgetExceeded() throws Exception {
+        // Given
+        double exceededBefore = exceeded("getHotelHistogram");
+
+        // When & Then
+        mockMvc.perform(get("/property-view/histogram/city"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.COUNT_HEADER, "1"))
+                .andExpect(header().exists(QueryCountFilter.ROWS_HEADER))
+                .andExpect(header().string(QueryCountFilter.BUDGET_EXCEEDED_HEADER, "true"));
+        assertThat(exceeded("getHotelHistogram")).isEqualTo(exceededBefore + 1);
+    }
+
+    @Test
+    @DisplayName("GET /property-view/hotels/{id} - should return query count on error responses")
+    void getHotel_ShouldReturnQueryCount_WhenHotelNotFound() throws Exception {
+        mockMvc.perform(get("/property-view/hotels/999999"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(QueryCountFilter.COUNT_HEADER, "1"))
+                .andExpect(header().string(QueryCountFilter.ROWS_HEADER, "0"))
+                .andExpect(header().doesNotExist(QueryCountFilter.BUDGET_EXCEEDED_HEADER));
+    }
+
+    private double exceeded(String endpoint) {
+        Counter counter = meterRegistry.find("hotel.query.budget.exceeded").tag("endpoint", endpoint).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.hotelproject.config;
+
+import jakarta.servlet.http.Cookie;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Replica routing against two local H2 databases. The replica gets the same schema and data as
+ * the primary, then hotel 1 is renamed there, so the response shows which database served a read.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+        "hotel.datasource.routing.enabled=true",
+        "hotel.datasource.routing.replicas[0].name=replica-1",
+        "hotel.datasource.routing.replicas[0].url=" + ReplicaRoutingTest.REPLICA_URL,
+        "hotel.datasource.routing.sticky-window=1m"
+})
+@AutoConfigureMockMvc
+@DisplayName("Read replica routing")
+class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1";
+    private static final String PRIMARY_NAME = "DoubleTree by Hilton Minsk";
+    private static final String REPLICA_NAME = "DoubleTree by Hilton Minsk (replica)";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    static void createReplica() throws Exception {
+        DriverManagerDataSource replica = new DriverManagerDataSource(REPLICA_URL, "root", "root");
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(replica);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+        new JdbcTemplate(replica).update("UPDATE hotels SET name = ? WHERE id = 1", REPLICA_NAME);
+    }
+
+    @Test
+    @DisplayName("GET /property-view/hotels/{id} - read-only request should be served by the replica")
+    void getHotel_ShouldReadFromReplica() throws Exception {
+        mockMvc.perform(get("/property-view/hotels/1"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().doesNotExist(ReadYourWritesFilter.COOKIE_NAME))
+                .andExpect(jsonPath("$.name", is(REPLICA_NAME)));
+    }
+
+    @Test
+    @DisplayName("GET /property-view/hotels/{id} - client that just wrote should read from the primary")
+    void getHotel_ShouldReadFromPrimary_AfterClientWrote() throws Exception {
+        // Given
+        MvcResult write = mockMvc.perform(post("/property-view/hotels/1/amenities")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"Routing test amenity\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is(PRIMARY_NAME)))
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+                .andReturn();
+        Cookie sticky = write.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        // When & Then
+        mockMvc.perform(get("/property-view/hotels/1").cookie(sticky))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is(PRIMARY_NAME)));
+    }
+}
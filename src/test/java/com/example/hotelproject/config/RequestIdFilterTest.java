@@ -0,0 +1,56 @@
+package com.example.hotelproject.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestIdFilter Tests")
+class RequestIdFilterTest {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @Test
+    @DisplayName("doFilter - should keep the request id of the caller in MDC and response")
+    void doFilter_ShouldKeepCallerRequestId() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/property-view/hotels");
+        request.addHeader(RequestIdFilter.HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> logged = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                logged.set(MDC.get(RequestIdFilter.MDC_KEY));
+            }
+        });
+
+        // Then
+        assertThat(logged.get()).isEqualTo("abc-123");
+        assertThat(response.getHeader(RequestIdFilter.HEADER)).isEqualTo("abc-123");
+        assertThat(MDC.get(RequestIdFilter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("doFilter - should generate a request id when the header is missing or unsafe")
+    void doFilter_ShouldGenerateRequestId_WhenHeaderInvalid() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/property-view/hotels");
+        request.addHeader(RequestIdFilter.HEADER, "bad\nid");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getHeader(RequestIdFilter.HEADER)).hasSize(36).doesNotContain("\n");
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.hotelproject.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:resource-accounting;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+        "hotel.resource-accounting.sample-rate=1.0"
+})
+@AutoConfigureMockMvc
+@DisplayName("ResourceAccountingFilter Tests")
+class ResourceAccountingFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("GET /property-view/hotels - should record allocated bytes and CPU time of the endpoint")
+    void getAllHotels_ShouldRecordAllocationAndCpu() throws Exception {
+        // When
+        mockMvc.perform(get("/property-view/hotels"))
+                .andExpect(status().isOk());
+
+        // Then
+        DistributionSummary allocated = meterRegistry.find("hotel.request.allocated").tag("endpoint", "getAllHotels").summary();
+        Timer cpu = meterRegistry.find("hotel.request.cpu").tag("endpoint", "getAllHotels").timer();
+        assertThat(allocated).isNotNull();
+        assertThat(allocated.totalAmount()).isPositive();
+        assertThat(cpu).isNotNull();
+        assertThat(cpu.count()).isPositive();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.hotelproject.config;
+
+import com.example.hotelproject.dto.AddressDTO;
+import com.example.hotelproject.dto.ContactDTO;
+import com.example.hotelproject.dto.HotelDTO;
+import com.example.hotelproject.dto.HotelShortDTO;
+import com.example.hotelproject.exception.HotelAlreadyExistsException;
+import com.example.hotelproject.exception.HotelNotFoundException;
+import com.example.hotelproject.service.HotelService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Sharding against three local H2 databases: the seeded primary (shard 0) and two empty shards.
+ * Germany is mapped to shard 1 and France to shard 2, every other country stays on shard 0.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sharding-0;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+        "hotel.sharding.enabled=true",
+        "hotel.sharding.shards[0].url=jdbc:h2:mem:sharding-1;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+        "hotel.sharding.shards[0].countries=Germany",
+        "hotel.sharding.shards[1].url=jdbc:h2:mem:sharding-2;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+        "hotel.sharding.shards[1].countries=France"
+})
+@DisplayName("Country-based sharding")
+class ShardingTest {
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Test
+    @DisplayName("createHotel - should store hotel on the shard of its country and read it back by id")
+    void createHotel_ShouldStoreHotelOnCountryShard() {
+        // When
+        HotelShortDTO berlin = hotelService.createHotel(hotel("Sharding Berlin Hotel", "Berlin", "Germany"));
+        HotelShortDTO paris = hotelService.createHotel(hotel("Sharding Paris Hotel", "Paris", "France"));
+        HotelShortDTO minsk = hotelService.createHotel(hotel("Sharding Minsk Hotel", "Minsk", "Belarus"));
+
+        // Then
+        assertThat(berlin.getId() / ShardingConfig.SHARD_ID_RANGE).isEqualTo(1);
+        assertThat(paris.getId() / ShardingConfig.SHARD_ID_RANGE).isEqualTo(2);
+        assertThat(minsk.getId()).isLessThan(ShardingConfig.SHARD_ID_RANGE);
+        assertThat(hotelService.getHotelById(berlin.getId()).getName()).isEqualTo("Sharding Berlin Hotel");
+        assertThat(hotelService.getHotelById(paris.getId()).getAddress().getCountry()).isEqualTo("France");
+    }
+
+    @Test
+    @DisplayName("searchHotels - should merge results from all shards")
+    void searchHotels_ShouldMergeResultsFromAllShards() {
+        // Given
+        hotelService.createHotel(hotel("Scatter Gather Hamburg", "Hamburg", "Germany"));
+        hotelService.createHotel(hotel("Scatter Gather Minsk", "Minsk", "Belarus"));
+
+        // When
+        List<HotelShortDTO> result = hotelService.searchHotels("Scatter Gather", null, null, null, null);
+
+        // Then
+        assertThat(result).extracting(HotelShortDTO::getName)
+                .containsExactlyInAnyOrder("Scatter Gather Hamburg", "Scatter Gather Minsk");
+    }
+
+    @Test
+    @DisplayName("getHotelListGroupByParam - should sum counts of the same value across shards")
+    void getHotelListGroupByParam_ShouldSumCountsAcrossShards() {
+        // Given
+        long before = hotelService.getHotelListGroupByParam("brand").getOrDefault("Sharding Brand", 0L);
+        hotelService.createHotel(hotel("Histogram Munich", "Munich", "Germany"));
+        hotelService.createHotel(hotel("Histogram Gomel", "Gomel", "Belarus"));
+
+        // When
+        Map<String, Long> result = hotelService.getHotelListGroupByParam("brand");
+
+        // Then
+        assertThat(result).containsEntry("Sharding Brand", before + 2);
+    }
+
+    @Test
+    @DisplayName("createHotel - should reject name that already exists on another shard")
+    void createHotel_ShouldRejectNameFromAnotherShard() {
+        // Given
+        String name = hotelService.getHotelById(1L).getName();
+
+        // When & Then
+        assertThatThrownBy(() -> hotelService.createHotel(hotel(name, "Cologne", "Germany")))
+                .isInstanceOf(HotelAlreadyExistsException.class);
+    }
+
+    @Test
+    @DisplayName("getHotelById - should throw exception when id is outside of all shard ranges")
+    void getHotelById_ShouldThrowException_WhenIdIsOutsideShardRanges() {
+        assertThatThrownBy(() -> hotelService.getHotelById(3 * ShardingConfig.SHARD_ID_RANGE + 1))
+                .isInstanceOf(HotelNotFoundException.class);
+    }
+
+    private HotelDTO hotel(String name, String city, String country) {
+        return HotelDTO.builder()
+                .name(name)
+                .brand("Sharding Brand")
+                .address(AddressDTO.builder()
+                        .houseNumber(1)
+                        .street("Main Street")
+                        .city(city)
+                        .country(country)
+                        .postCode("10115")
+                        .build())
+                .contacts(ContactDTO.builder()
+                        .phone("+49 30 1234567")
+                        .email("info@example.com")
+                        .build())
+                .build();
+    }
+}
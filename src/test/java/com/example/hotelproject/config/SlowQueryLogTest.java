@@ -0,0 +1,100 @@
+package com.example.hotelproject.config;
+
+import com.example.hotelproject.service.HotelService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Slow query log with a zero threshold, so that every statement of the seeded H2 database is recorded.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:slow-query;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+        "hotel.slow-query.threshold=0ms",
+        "hotel.slow-query.capacity=50",
+        "hotel.slow-query.mask-parameters=false",
+        "management.endpoints.web.exposure.include=slowqueries"
+})
+@AutoConfigureMockMvc
+@DisplayName("Slow query log")
+class SlowQueryLogTest {
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        slowQueryLog.clear();
+    }
+
+    @Test
+    @DisplayName("record - should keep SQL, parameters, repository method and EXPLAIN plan")
+    void record_ShouldKeepStatementWithPlan() throws Exception {
+        // When
+        hotelService.searchHotels(null, null, List.of("Minsk"), null, null);
+
+        // Then
+        SlowQuery search = awaitPlan("HotelRepository.findByCity");
+        assertThat(search.sql()).containsIgnoringCase("select");
+        assertThat(search.parameters()).contains("Minsk");
+        assertThat(search.plan()).doesNotStartWith("EXPLAIN failed").containsIgnoringCase("select");
+    }
+
+    @Test
+    @DisplayName("record - should keep only the latest statements")
+    void record_ShouldEvictOldestStatements() {
+        // When
+        for (int i = 0; i < 60; i++) {
+            hotelService.getHotelListGroupByParam("brand");
+        }
+
+        // Then
+        assertThat(slowQueryLog.getEntries()).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("GET /actuator/slowqueries - should return latest statements")
+    void endpoint_ShouldReturnStatements() throws Exception {
+        // Given
+        hotelService.getHotelListGroupByParam("country");
+
+        // When & Then
+        mockMvc.perform(get("/actuator/slowqueries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.thresholdMillis").value(0))
+                .andExpect(jsonPath("$.statements[*].sql", hasItem(containsStringIgnoringCase("group by"))));
+    }
+
+    private SlowQuery awaitPlan(String repositoryMethod) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            Optional<SlowQuery> entry = slowQueryLog.getEntries().stream()
+                    .filter(query -> repositoryMethod.equals(query.repositoryMethod()) && query.plan() != null)
+                    .findFirst();
+            if (entry.isPresent()) {
+                return entry.get();
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("No EXPLAIN plan for " + repositoryMethod + " in " + slowQueryLog.getEntries());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.hotelproject.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlLogSamplingFilter Tests")
+class SqlLogSamplingFilterTest {
+
+    private SqlLogSamplingFilter filter;
+    private ListAppender<ILoggingEvent> events;
+    private Logger sql;
+    private Logger bind;
+    private Logger other;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        filter = new SqlLogSamplingFilter();
+        filter.setMaxPerSecond(3);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        events = new ListAppender<>();
+        events.setContext(context);
+        events.start();
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.TRACE);
+        root.addAppender(events);
+        sql = context.getLogger(SqlLogSamplingFilter.SQL_LOGGER);
+        bind = context.getLogger(SqlLogSamplingFilter.BIND_LOGGER);
+        other = context.getLogger("com.example.hotelproject.service.HotelService");
+    }
+
+    @Test
+    @DisplayName("decide - should log at most maxPerSecond statements with their parameters")
+    void decide_ShouldRateLimitStatementsAndTheirParameters() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            if (sql.isDebugEnabled()) {
+                sql.debug("select * from hotels where id=?");
+            }
+            if (bind.isTraceEnabled()) {
+                bind.trace("binding parameter (1:BIGINT) <- [{}]", i);
+            }
+        }
+
+        // Then
+        long statements = events.list.stream().filter(event -> event.getLoggerName().equals(SqlLogSamplingFilter.SQL_LOGGER)).count();
+        long parameters = events.list.stream().filter(event -> event.getLoggerName().equals(SqlLogSamplingFilter.BIND_LOGGER)).count();
+        // Цикл может попасть на границу секунды
+        assertThat(statements).isBetween(3L, 6L);
+        assertThat(parameters).isEqualTo(statements);
+        assertThat(filter.getDropped()).isEqualTo(100 - statements);
+    }
+
+    @Test
+    @DisplayName("decide - should not limit other loggers")
+    void decide_ShouldNotLimitOtherLoggers() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            other.info("Deleting hotel id={}", i);
+        }
+
+        // Then
+        assertThat(events.list).hasSize(100);
+        assertThat(filter.getDropped()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.hotelproject.config;
+
+import com.example.hotelproject.exception.GlobalExceptionHandler;
+import com.example.hotelproject.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkloadConnectionQuotaDataSource Unit Tests")
+class WorkloadConnectionQuotaDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WorkloadConnectionQuotaDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        BulkheadProperties.Limits search = new BulkheadProperties.Limits();
+        search.setMaxConnections(1);
+        properties.getClasses().put(WorkloadClass.SEARCH, search);
+        dataSource = new WorkloadConnectionQuotaDataSource(targetDataSource, properties, Duration.ofMillis(50), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        WorkloadContext.clear();
+    }
+
+    @Test
+    @DisplayName("getConnection - should reject as overloaded when the workload quota is used up")
+    void getConnection_ShouldThrowServiceOverloaded_WhenQuotaUsedUp() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        WorkloadContext.set(WorkloadClass.SEARCH);
+        dataSource.getConnection();
+
+        // When & Then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting(ex -> ((ServiceOverloadedException) ex).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(2));
+        assertThat(meterRegistry.get("hotel.bulkhead.rejected").tag("workload", "search").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("handleCannotCreateTransactionException - should answer 503 with Retry-After for a quota rejection")
+    void handleCannotCreateTransactionException_ShouldReturnServiceUnavailable_WhenQuotaUsedUp() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        WorkloadContext.set(WorkloadClass.SEARCH);
+        dataSource.getConnection();
+        ServiceOverloadedException rejection = catchThrowableOfType(ServiceOverloadedException.class, () -> dataSource.getConnection());
+
+        // When
+        ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler().handleCannotCreateTransactionException(
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction", rejection));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+    }
+}
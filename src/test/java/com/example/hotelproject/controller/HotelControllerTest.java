@@ -1,8 +1,21 @@
 package com.example.hotelproject.controller;
 
+import com.example.hotelproject.dto.BatchQueryDTO;
+import com.example.hotelproject.dto.BatchQueryResultDTO;
+import com.example.hotelproject.dto.BatchSubQueryDTO;
+import com.example.hotelproject.dto.BatchSubQueryResultDTO;
+import com.example.hotelproject.dto.BulkAmenityAssignmentDTO;
+import com.example.hotelproject.dto.BulkAmenityAssignmentResultDTO;
+import com.example.hotelproject.dto.BulkHotelDeletionDTO;
+import com.example.hotelproject.dto.BulkHotelDeletionResultDTO;
+import com.example.hotelproject.dto.HotelCreationStatusDTO;
 import com.example.hotelproject.dto.HotelDTO;
 import com.example.hotelproject.dto.HotelShortDTO;
 import com.example.hotelproject.exception.HotelNotFoundException;
+import com.example.hotelproject.exception.InvalidPatchException;
+import com.example.hotelproject.exception.ServiceOverloadedException;
+import com.example.hotelproject.service.BatchQueryService;
+import com.example.hotelproject.service.HotelCreationPipeline;
 import com.example.hotelproject.service.HotelService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +24,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -23,13 +38,18 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -47,6 +67,12 @@ class HotelControllerTest {
     @MockBean
     private HotelService hotelService;
 
+    @MockBean
+    private HotelCreationPipeline hotelCreationPipeline;
+
+    @MockBean
+    private BatchQueryService batchQueryService;
+
     private HotelShortDTO hotelShortDTO1;
     private HotelShortDTO hotelShortDTO2;
     private HotelDTO hotelDTO;
@@ -383,6 +409,157 @@ class HotelControllerTest {
         verify(hotelService, never()).createHotel(any(HotelDTO.class));
     }
 
+    @Test
+    @DisplayName("POST /property-view/hotels - should accept hotel asynchronously with status 202")
+    void createHotel_ShouldReturn202_WhenAsyncPreferred() throws Exception {
+        // Given
+        HotelDTO newHotelDTO = HotelDTO.builder()
+                .name("New Test Hotel")
+                .brand("Hilton")
+                .build();
+
+        HotelCreationStatusDTO status = HotelCreationStatusDTO.builder()
+                .requestId("request-1")
+                .state(HotelCreationStatusDTO.State.PENDING)
+                .build();
+
+        when(hotelCreationPipeline.isEnabled()).thenReturn(true);
+        when(hotelCreationPipeline.submit(any(HotelDTO.class))).thenReturn(status);
+
+        // When & Then
+        mockMvc.perform(post("/property-view/hotels")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newHotelDTO)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/property-view/hotels/creation-requests/request-1"))
+                .andExpect(jsonPath("$.requestId", is("request-1")))
+                .andExpect(jsonPath("$.state", is("PENDING")));
+
+        verify(hotelService, never()).createHotel(any(HotelDTO.class));
+    }
+
+    @Test
+    @DisplayName("POST /property-view/hotels - should create synchronously when async creation is disabled")
+    void createHotel_ShouldCreateSynchronously_WhenAsyncDisabled() throws Exception {
+        // Given
+        HotelDTO newHotelDTO = HotelDTO.builder()
+                .name("New Test Hotel")
+                .brand("Hilton")
+                .build();
+
+        when(hotelCreationPipeline.isEnabled()).thenReturn(false);
+        when(hotelService.createHotel(any(HotelDTO.class))).thenReturn(hotelShortDTO1);
+
+        // When & Then
+        mockMvc.perform(post("/property-view/hotels")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newHotelDTO)))
+                .andExpect(status().isCreated());
+
+        verify(hotelCreationPipeline, never()).submit(any(HotelDTO.class));
+    }
+
+    @Test
+    @DisplayName("POST /property-view/hotels - should return 503 with Retry-After when queue is full")
+    void createHotel_ShouldReturn503_WhenQueueIsFull() throws Exception {
+        // Given
+        HotelDTO newHotelDTO = HotelDTO.builder()
+                .name("New Test Hotel")
+                .brand("Hilton")
+                .build();
+
+        when(hotelCreationPipeline.isEnabled()).thenReturn(true);
+        when(hotelCreationPipeline.submit(any(HotelDTO.class)))
+                .thenThrow(new ServiceOverloadedException("Hotel creation queue is full", Duration.ofSeconds(2)));
+
+        // When & Then
+        mockMvc.perform(post("/property-view/hotels")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newHotelDTO)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.message", is("Hotel creation queue is full")));
+    }
+
+    @Test
+    @DisplayName("GET /property-view/search - should return 504 when the query exceeds the request deadline")
+    void searchHotels_ShouldReturn504_WhenDeadlineExceeded() throws Exception {
+        // Given
+        when(hotelService.searchHotels(eq("Minsk"), any(), any(), any(), any()))
+                .thenThrow(new QueryTimeoutException("Statement cancelled due to timeout"));
+
+        // When & Then
+        mockMvc.perform(get("/property-view/search")
+                        .param("name", "Minsk"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.error", is("Deadline Exceeded")));
+    }
+
+    @Test
+    @DisplayName("POST /property-view/batch - should return results of all queries including failed ones")
+    void executeBatch_ShouldReturnPartialResults_WithStatus200() throws Exception {
+        // Given
+        BatchQueryDTO request = BatchQueryDTO.builder()
+                .queries(List.of(
+                        BatchSubQueryDTO.builder().id("brands").type(BatchSubQueryDTO.Type.HISTOGRAM).param("brand").build(),
+                        BatchSubQueryDTO.builder().id("empty").type(BatchSubQueryDTO.Type.SEARCH).build()))
+                .build();
+        BatchQueryResultDTO result = BatchQueryResultDTO.builder()
+                .succeeded(1)
+                .failed(1)
+                .results(List.of(
+                        BatchSubQueryResultDTO.builder().id("brands").type(BatchSubQueryDTO.Type.HISTOGRAM)
+                                .status(200).result(Map.of("Hilton", 3L)).build(),
+                        BatchSubQueryResultDTO.builder().id("empty").type(BatchSubQueryDTO.Type.SEARCH)
+                                .status(422).error("At least one search parameter is required").build()))
+                .build();
+        when(batchQueryService.execute(any(BatchQueryDTO.class))).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/property-view/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.results", hasSize(2)))
+                .andExpect(jsonPath("$.results[0].result.Hilton", is(3)))
+                .andExpect(jsonPath("$.results[1].status", is(422)));
+    }
+
+    @Test
+    @DisplayName("POST /property-view/batch - should return 400 when batch is empty")
+    void executeBatch_ShouldReturn400_WhenBatchIsEmpty() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/property-view/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"queries\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(batchQueryService, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("GET /property-view/hotels/creation-requests/{requestId} - should return creation status")
+    void getHotelCreationStatus_ShouldReturnStatus_WithStatus200() throws Exception {
+        // Given
+        HotelCreationStatusDTO status = HotelCreationStatusDTO.builder()
+                .requestId("request-1")
+                .state(HotelCreationStatusDTO.State.CREATED)
+                .hotel(hotelShortDTO1)
+                .build();
+
+        when(hotelCreationPipeline.getStatus("request-1")).thenReturn(status);
+
+        // When & Then
+        mockMvc.perform(get("/property-view/hotels/creation-requests/{requestId}", "request-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", is("CREATED")))
+                .andExpect(jsonPath("$.hotel.id", is(1)));
+    }
+
     @Test
     @DisplayName("GET /property-view/search - should search hotels by name")
     void searchHotels_ShouldSearchByName_WithStatus200() throws Exception {
@@ -546,4 +723,127 @@ class HotelControllerTest {
 
         verify(hotelService, times(1)).getHotelListGroupByParam("invalid");
     }
+
+    @Test
+    @DisplayName("POST /property-view/hotels/amenities/bulk - should assign amenities and return counts")
+    void assignAmenitiesInBulk_ShouldReturnResult_WithStatus200() throws Exception {
+        // Given
+        BulkAmenityAssignmentDTO request = BulkAmenityAssignmentDTO.builder()
+                .amenities(List.of("EV charging"))
+                .hotelIds(Arrays.asList(1L, 2L))
+                .build();
+        BulkAmenityAssignmentResultDTO result = BulkAmenityAssignmentResultDTO.builder()
+                .hotelsMatched(2)
+                .amenitiesCreated(1)
+                .assignmentsCreated(2)
+                .build();
+
+        when(hotelService.assignAmenitiesInBulk(any(BulkAmenityAssignmentDTO.class))).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/property-view/hotels/amenities/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.hotelsMatched", is(2)))
+                .andExpect(jsonPath("$.amenitiesCreated", is(1)))
+                .andExpect(jsonPath("$.assignmentsCreated", is(2)));
+
+        verify(hotelService, times(1)).assignAmenitiesInBulk(any(BulkAmenityAssignmentDTO.class));
+    }
+
+    @Test
+    @DisplayName("POST /property-view/hotels/amenities/bulk - should return 400 when amenities are empty")
+    void assignAmenitiesInBulk_ShouldReturn400_WhenAmenitiesEmpty() throws Exception {
+        // Given
+        BulkAmenityAssignmentDTO request = BulkAmenityAssignmentDTO.builder()
+                .amenities(Collections.emptyList())
+                .hotelIds(List.of(1L))
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/property-view/hotels/amenities/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(hotelService, never()).assignAmenitiesInBulk(any());
+    }
+
+    @Test
+    @DisplayName("DELETE /property-view/hotels/{id} - should delete hotel with status 204")
+    void deleteHotel_ShouldReturn204_WhenHotelExists() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/property-view/hotels/1"))
+                .andExpect(status().isNoContent());
+
+        verify(hotelService, times(1)).deleteHotel(1L);
+    }
+
+    @Test
+    @DisplayName("DELETE /property-view/hotels/{id} - should return 404 when hotel not found")
+    void deleteHotel_ShouldReturn404_WhenHotelNotFound() throws Exception {
+        // Given
+        doThrow(new HotelNotFoundException("Hotel not found with id: 999")).when(hotelService).deleteHotel(999L);
+
+        // When & Then
+        mockMvc.perform(delete("/property-view/hotels/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", is(404)))
+                .andExpect(jsonPath("$.message", is("Hotel not found with id: 999")));
+    }
+
+    @Test
+    @DisplayName("POST /property-view/hotels/bulk-delete - should delete hotels and return counts")
+    void deleteHotelsInBulk_ShouldReturnResult_WithStatus200() throws Exception {
+        // Given
+        BulkHotelDeletionDTO request = BulkHotelDeletionDTO.builder()
+                .hotelIds(Arrays.asList(1L, 2L, 3L))
+                .build();
+        BulkHotelDeletionResultDTO result = BulkHotelDeletionResultDTO.builder()
+                .hotelsMatched(3)
+                .hotelsDeleted(2)
+                .build();
+
+        when(hotelService.deleteHotelsInBulk(any(BulkHotelDeletionDTO.class))).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/property-view/hotels/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hotelsMatched", is(3)))
+                .andExpect(jsonPath("$.hotelsDeleted", is(2)));
+
+        verify(hotelService, times(1)).deleteHotelsInBulk(any(BulkHotelDeletionDTO.class));
+    }
+
+    @Test
+    @DisplayName("PATCH /property-view/hotels/{id} - should apply merge patch with status 204")
+    void patchHotel_ShouldReturn204_WhenPatchApplied() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/property-view/hotels/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"description\": \"Renovated in 2024\"}"))
+                .andExpect(status().isNoContent());
+
+        verify(hotelService, times(1)).patchHotel(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("PATCH /property-view/hotels/{id} - should return 400 with field errors for invalid patch")
+    void patchHotel_ShouldReturn400_WhenPatchInvalid() throws Exception {
+        // Given
+        doThrow(new InvalidPatchException("Invalid patch", Map.of("contacts.email", "Email must be valid")))
+                .when(hotelService).patchHotel(eq(1L), any());
+
+        // When & Then
+        mockMvc.perform(patch("/property-view/hotels/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"contacts\": {\"email\": \"not-an-email\"}}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid patch")))
+                .andExpect(jsonPath("$.fieldErrors['contacts.email']", is("Email must be valid")));
+    }
 }
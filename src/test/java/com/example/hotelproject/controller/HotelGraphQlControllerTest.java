@@ -0,0 +1,136 @@
+package com.example.hotelproject.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GraphQL read API against the seeded H2 database, including the number of SQL statements per query.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:graphql;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureGraphQlTester
+@DisplayName("HotelGraphQlController Tests")
+class HotelGraphQlControllerTest {
+
+    private static final String ALL_FIELDS = """
+            id name description
+            brand { id name }
+            address { houseNumber street city country postCode }
+            contacts { phone email }
+            arrivalTime { checkIn checkOut }
+            amenities { id name }
+            """;
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("hotel - should return only the requested fields of a hotel")
+    void hotel_ShouldReturnRequestedFields() {
+        graphQlTester.document("{ hotel(id: 1) { name address { city } } }")
+                .execute()
+                .path("hotel.name").entity(String.class).isEqualTo("DoubleTree by Hilton Minsk")
+                .path("hotel.address.city").entity(String.class).isEqualTo("Minsk")
+                .path("hotel.brand").pathDoesNotExist();
+    }
+
+    @Test
+    @DisplayName("hotel - should return null when hotel does not exist")
+    void hotel_ShouldReturnNull_WhenHotelNotFound() {
+        graphQlTester.document("{ hotel(id: 999999) { name } }")
+                .execute()
+                .path("hotel").valueIsNull();
+    }
+
+    @Test
+    @DisplayName("hotels - should load every association level with one query for the whole page")
+    void hotels_ShouldLoadEachAssociationWithOneQuery() {
+        // When
+        List<String> names = graphQlTester.document("{ hotels(first: 40) { " + ALL_FIELDS + " } }")
+                .execute()
+                .path("hotels[*].name").entityList(String.class).get();
+
+        // Then
+        // id отелей, строки отелей, бренды, адреса, контакты, время заезда, amenities
+        assertThat(names).hasSizeGreaterThanOrEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("hotels - should return the requested page of hotels ordered by id")
+    void hotels_ShouldReturnPage() {
+        // Given
+        List<Long> all = graphQlTester.document("{ hotels(first: 50) { id } }")
+                .execute()
+                .path("hotels[*].id").entityList(Long.class).get();
+
+        // When
+        List<Long> page = graphQlTester.document("{ hotels(first: 2, offset: 1) { id } }")
+                .execute()
+                .path("hotels[*].id").entityList(Long.class).get();
+
+        // Then
+        assertThat(all).hasSizeGreaterThanOrEqualTo(3).isSorted();
+        assertThat(page).isEqualTo(all.subList(1, 3));
+    }
+
+    @Test
+    @DisplayName("hotels - should filter by city and brand")
+    void hotels_ShouldFilterByCriteria() {
+        graphQlTester.document("""
+                        { hotels(filter: { city: ["minsk"], brand: ["Hilton"] }) { name brand { name } amenities { name } } }
+                        """)
+                .execute()
+                .path("hotels[*].brand.name").entityList(String.class)
+                .satisfies(brands -> assertThat(brands).isNotEmpty().containsOnly("Hilton"))
+                .path("hotels[*].name").entityList(String.class).contains("DoubleTree by Hilton Minsk");
+    }
+
+    @Test
+    @DisplayName("hotels - should reject query whose complexity exceeds the limit")
+    void hotels_ShouldRejectTooComplexQuery() {
+        graphQlTester.document("{ hotels(first: 100) { " + ALL_FIELDS + " } }")
+                .execute()
+                .errors()
+                .satisfy(errors -> assertThat(errors).isNotEmpty()
+                        .anySatisfy(error -> assertThat(error.getMessage()).containsIgnoringCase("complexity")));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("hotels - should return BAD_REQUEST error when page size is above the limit")
+    void hotels_ShouldReturnError_WhenPageTooLarge() {
+        graphQlTester.document("{ hotels(first: 500) { id } }")
+                .execute()
+                .errors()
+                .expect(error -> error.getErrorType() == ErrorType.BAD_REQUEST)
+                .verify();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.hotelproject.service;
+
+import com.example.hotelproject.config.BatchQueryProperties;
+import com.example.hotelproject.config.RequestDeadline;
+import com.example.hotelproject.dto.BatchQueryDTO;
+import com.example.hotelproject.dto.BatchQueryResultDTO;
+import com.example.hotelproject.dto.BatchSubQueryDTO;
+import com.example.hotelproject.dto.BatchSubQueryResultDTO;
+import com.example.hotelproject.dto.HotelFilterDTO;
+import com.example.hotelproject.dto.HotelShortDTO;
+import com.example.hotelproject.exception.MissingSearchParameterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchQueryService Unit Tests")
+class BatchQueryServiceTest {
+
+    @Mock
+    private HotelService hotelService;
+
+    private BatchQueryProperties properties;
+    private BatchQueryService batchQueryService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BatchQueryProperties();
+        batchQueryService = new BatchQueryService(hotelService, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("execute - should run queries concurrently and return results in query order")
+    void execute_ShouldRunQueriesConcurrently() throws Exception {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<HotelShortDTO> hotels = List.of(HotelShortDTO.builder().id(1L).name("DoubleTree by Hilton Minsk").build());
+        when(hotelService.searchHotels(isNull(), isNull(), eq(List.of("Minsk")), isNull(), isNull()))
+                .thenAnswer(invocation -> awaitOther(bothStarted, hotels));
+        when(hotelService.getHotelListGroupByParam("brand"))
+                .thenAnswer(invocation -> awaitOther(bothStarted, Map.of("Hilton", 3L)));
+
+        // When
+        BatchQueryResultDTO result = batchQueryService.execute(batch(
+                search("minsk", HotelFilterDTO.builder().city(List.of("Minsk")).build()),
+                histogram("brands", "brand")));
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getResults()).extracting(BatchSubQueryResultDTO::getId).containsExactly("minsk", "brands");
+        assertThat(result.getResults().get(0).getResult()).isEqualTo(hotels);
+        assertThat(result.getResults().get(1).getResult()).isEqualTo(Map.of("Hilton", 3L));
+    }
+
+    @Test
+    @DisplayName("execute - should report failed query without failing the others")
+    void execute_ShouldReportPartialFailures() {
+        // Given
+        when(hotelService.searchHotels(any(), any(), any(), any(), any()))
+                .thenThrow(new MissingSearchParameterException("At least one search parameter is required"));
+        when(hotelService.getHotelListGroupByParam("stars"))
+                .thenThrow(new IllegalArgumentException("Invalid parameter: stars"));
+        when(hotelService.getHotelListGroupByParam("city")).thenReturn(Map.of("Minsk", 3L));
+
+        // When
+        BatchQueryResultDTO result = batchQueryService.execute(batch(
+                search(null, null),
+                histogram("stars", "stars"),
+                histogram("cities", "city")));
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getResults()).extracting(BatchSubQueryResultDTO::getStatus).containsExactly(422, 400, 200);
+        assertThat(result.getResults().get(0).getId()).isEqualTo("0");
+        assertThat(result.getResults().get(1).getError()).isEqualTo("Invalid parameter: stars");
+    }
+
+    @Test
+    @DisplayName("execute - should return 504 for queries still running at the request deadline")
+    void execute_ShouldReturn504_WhenDeadlineExceeded() {
+        // Given
+        RequestDeadline.start(Duration.ofMillis(200));
+        when(hotelService.getHotelListGroupByParam("amenities")).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return Map.of();
+        });
+        when(hotelService.getHotelListGroupByParam("city")).thenReturn(Map.of("Minsk", 3L));
+
+        // When
+        long start = System.nanoTime();
+        BatchQueryResultDTO result = batchQueryService.execute(batch(
+                histogram("slow", "amenities"),
+                histogram("fast", "city")));
+
+        // Then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(result.getResults()).extracting(BatchSubQueryResultDTO::getStatus).containsExactly(504, 200);
+    }
+
+    @Test
+    @DisplayName("execute - should reject batch with more queries than allowed")
+    void execute_ShouldThrowException_WhenTooManyQueries() {
+        // Given
+        properties.setMaxQueries(2);
+        List<BatchSubQueryDTO> queries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queries.add(histogram(null, "city"));
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> batchQueryService.execute(BatchQueryDTO.builder().queries(queries).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at most 2");
+        verifyNoInteractions(hotelService);
+    }
+
+    // Ответ возвращается, только когда оба подзапроса выполняются одновременно
+    private <T> T awaitOther(CountDownLatch bothStarted, T value) throws InterruptedException {
+        bothStarted.countDown();
+        assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        return value;
+    }
+
+    private BatchQueryDTO batch(BatchSubQueryDTO... queries) {
+        return BatchQueryDTO.builder().queries(List.of(queries)).build();
+    }
+
+    private BatchSubQueryDTO search(String id, HotelFilterDTO filter) {
+        return BatchSubQueryDTO.builder().id(id).type(BatchSubQueryDTO.Type.SEARCH).filter(filter).build();
+    }
+
+    private BatchSubQueryDTO histogram(String id, String param) {
+        return BatchSubQueryDTO.builder().id(id).type(BatchSubQueryDTO.Type.HISTOGRAM).param(param).build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.hotelproject.service;
+
+import com.example.hotelproject.config.CatalogProperties;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Generator against fresh H2 databases migrated by Liquibase, without the application context.
+ */
+@DisplayName("CatalogGenerator Tests")
+class CatalogGeneratorTest {
+
+    private static final String HOTELS_PER_BRAND = "SELECT b.name, COUNT(*) AS hotels FROM hotels h "
+            + "JOIN brands b ON b.id = h.brand_id WHERE h.name LIKE 'Generated Hotel %' GROUP BY b.name ORDER BY hotels DESC, b.name";
+
+    private CatalogProperties spec;
+
+    @BeforeEach
+    void setUp() {
+        spec = new CatalogProperties();
+        spec.setHotels(10_000);
+        spec.setBatchSize(2_000);
+    }
+
+    @Test
+    @DisplayName("generate - should insert requested number of hotels with address, contacts and amenities")
+    void generate_ShouldFillCatalog() throws Exception {
+        // Given
+        JdbcTemplate jdbc = new JdbcTemplate(database());
+
+        // When
+        CatalogGenerator.GeneratedCatalog catalog = generator(jdbc).generate(spec);
+
+        // Then
+        assertThat(catalog.hotels()).isEqualTo(10_000);
+        assertThat(count(jdbc, "SELECT COUNT(*) FROM hotels WHERE name LIKE 'Generated Hotel %'")).isEqualTo(10_000);
+        assertThat(count(jdbc, "SELECT COUNT(*) FROM addresses WHERE id >= " + catalog.firstHotelId())).isEqualTo(10_000);
+        assertThat(count(jdbc, "SELECT COUNT(*) FROM contacts WHERE id >= " + catalog.firstHotelId())).isEqualTo(10_000);
+        assertThat(count(jdbc, "SELECT COUNT(*) FROM hotel_amenities WHERE hotel_id >= " + catalog.firstHotelId()))
+                .isEqualTo(catalog.hotelAmenities())
+                .isGreaterThanOrEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("generate - should produce the same catalog for the same seed")
+    void generate_ShouldBeDeterministic() throws Exception {
+        // Given
+        JdbcTemplate first = new JdbcTemplate(database());
+        JdbcTemplate second = new JdbcTemplate(database());
+
+        // When
+        CatalogGenerator.GeneratedCatalog firstCatalog = generator(first).generate(spec);
+        CatalogGenerator.GeneratedCatalog secondCatalog = generator(second).generate(spec);
+
+        // Then
+        assertThat(secondCatalog.hotelAmenities()).isEqualTo(firstCatalog.hotelAmenities());
+        assertThat(second.queryForList(HOTELS_PER_BRAND)).isEqualTo(first.queryForList(HOTELS_PER_BRAND));
+    }
+
+    @Test
+    @DisplayName("generate - should skew brands, cities and amenity counts")
+    void generate_ShouldSkewDistributions() throws Exception {
+        // Given
+        JdbcTemplate jdbc = new JdbcTemplate(database());
+
+        // When
+        generator(jdbc).generate(spec);
+
+        // Then
+        List<Map<String, Object>> brands = jdbc.queryForList(HOTELS_PER_BRAND);
+        assertThat(brands.getFirst().get("name")).isEqualTo(CatalogGenerator.brandName(1));
+        long topBrand = ((Number) brands.getFirst().get("hotels")).longValue();
+        long medianBrand = ((Number) brands.get(brands.size() / 2).get("hotels")).longValue();
+        assertThat(topBrand).isGreaterThan(20 * medianBrand);
+
+        long topCity = count(jdbc, "SELECT COUNT(*) FROM addresses a JOIN streets s ON s.id = a.street_id "
+                + "JOIN cities c ON c.id = s.city_id WHERE c.name = '" + CatalogGenerator.cityName(1) + "'");
+        assertThat(topCity).isGreaterThan(10_000 / spec.getCities() * 20);
+
+        // Большинство отелей с одной-двумя amenities, но есть и длинный хвост
+        List<Long> amenityCounts = jdbc.queryForList("SELECT COUNT(*) FROM hotel_amenities ha JOIN hotels h ON h.id = ha.hotel_id "
+                + "WHERE h.name LIKE 'Generated Hotel %' GROUP BY ha.hotel_id", Long.class);
+        assertThat(amenityCounts.stream().filter(amenities -> amenities <= 2).count()).isGreaterThan(5_000);
+        assertThat(amenityCounts.stream().mapToLong(Long::longValue).max().orElse(0)).isGreaterThanOrEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("generate - should refuse to generate a second catalog into the same database")
+    void generate_ShouldThrowException_WhenCatalogAlreadyGenerated() throws Exception {
+        // Given
+        spec.setHotels(100);
+        CatalogGenerator generator = generator(new JdbcTemplate(database()));
+        generator.generate(spec);
+
+        // When & Then
+        assertThatThrownBy(() -> generator.generate(spec))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private DataSource database() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:catalog-" + UUID.randomUUID() + ";DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1", "root", "root");
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private CatalogGenerator generator(JdbcTemplate jdbc) {
+        return new CatalogGenerator(jdbc, new TransactionTemplate(new DataSourceTransactionManager(jdbc.getDataSource())));
+    }
+
+    private long count(JdbcTemplate jdbc, String sql) {
+        return jdbc.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.hotelproject.service;
+
+import com.example.hotelproject.dto.HotelDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contention benchmark for {@link HotelService#addAmenities}: several writers hammer the same hotel
+ * and every addition must survive. Logs throughput and the number of optimistic lock retries.
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:amenity-contention;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1")
+@DisplayName("HotelService amenity contention benchmark")
+class HotelAmenityContentionTest {
+
+    private static final int WRITERS = 4;
+    private static final int ROUNDS_PER_WRITER = 5;
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("addAmenities - concurrent writers on one hotel should not lose additions")
+    void addAmenities_ShouldKeepEveryAddition_UnderContention() throws Exception {
+        // Given
+        Long hotelId = hotelService.createHotel(HotelDTO.builder()
+                .name("Contention Benchmark Hotel")
+                .brand("Contention Benchmark Brand")
+                .build()).getId();
+        double retriesBefore = retries();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        List<Future<?>> results = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            int writerId = writer;
+            results.add(writers.submit(() -> {
+                start.await();
+                for (int round = 0; round < ROUNDS_PER_WRITER; round++) {
+                    hotelService.addAmenities(hotelId, List.of("Contention amenity " + writerId + "-" + round));
+                }
+                return null;
+            }));
+        }
+
+        // When
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        writers.shutdown();
+
+        // Then
+        HotelDTO hotel = hotelService.getHotelById(hotelId);
+        assertThat(hotel.getAmenities()).hasSize(WRITERS * ROUNDS_PER_WRITER);
+
+        int operations = WRITERS * ROUNDS_PER_WRITER;
+        log.info("addAmenities contention: {} writers, {} merges in {} ms ({} ops/s), {} optimistic lock retries",
+                WRITERS, operations, elapsedMs, Math.round(operations * 1000.0 / Math.max(elapsedMs, 1)), Math.round(retries() - retriesBefore));
+    }
+
+    private double retries() {
+        return meterRegistry.counter(HotelService.OPTIMISTIC_LOCK_RETRIES_METRIC, "operation", "addAmenities").count();
+    }
+}
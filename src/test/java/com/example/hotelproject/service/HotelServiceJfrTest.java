@@ -0,0 +1,93 @@
+package com.example.hotelproject.service;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JFR events of HotelService, recorded with zero thresholds against the seeded H2 database.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:service-jfr;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1")
+@DisplayName("HotelService JFR events")
+class HotelServiceJfrTest {
+
+    private static final List<String> EVENTS = List.of(
+            "com.example.hotelproject.Search",
+            "com.example.hotelproject.Mapping",
+            "com.example.hotelproject.Histogram",
+            "com.example.hotelproject.DictionaryLookup",
+            "com.example.hotelproject.CreationPhase");
+
+    @Autowired
+    private HotelService hotelService;
+
+    @TempDir
+    private Path directory;
+
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        EVENTS.forEach(event -> recording.enable(event).withThreshold(Duration.ZERO));
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    @DisplayName("searchHotels - should record mode, parameter count and result size")
+    void searchHotels_ShouldRecordSearchEvent() throws Exception {
+        // When
+        int found = hotelService.searchHotels(null, null, List.of("Minsk", "Moscow"), null, null).size();
+
+        // Then
+        List<RecordedEvent> events = events("com.example.hotelproject.Search");
+        assertThat(events).hasSize(1);
+        assertThat(events.getFirst().getString("mode")).isEqualTo(SearchMode.CITY.tag());
+        assertThat(events.getFirst().getInt("parameterCount")).isEqualTo(2);
+        assertThat(events.getFirst().getInt("resultSize")).isEqualTo(found);
+        assertThat(events("com.example.hotelproject.Mapping")).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("getHotelListGroupByParam - should record parameter and number of groups")
+    void getHotelListGroupByParam_ShouldRecordHistogramEvent() throws Exception {
+        // When
+        int groups = hotelService.getHotelListGroupByParam("brand").size();
+
+        // Then
+        List<RecordedEvent> events = events("com.example.hotelproject.Histogram");
+        assertThat(events).hasSize(1);
+        assertThat(events.getFirst().getString("parameter")).isEqualTo(HistogramParameter.BRAND.tag());
+        assertThat(events.getFirst().getInt("groups")).isEqualTo(groups);
+    }
+
+    private List<RecordedEvent> events(String name) throws Exception {
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        Path file = directory.resolve("hotel-service.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.hotelproject.service;
+
+import com.example.hotelproject.config.QueryCounter;
+import com.example.hotelproject.dto.HotelDTO;
+import com.example.hotelproject.dto.HotelShortDTO;
+import com.example.hotelproject.exception.HotelNotFoundException;
+import com.example.hotelproject.exception.MissingSearchParameterException;
+import com.example.hotelproject.support.ExpectedQueries;
+import com.example.hotelproject.support.QueryCountExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Number of SQL statements per HotelService method against the seeded H2 database.
+ * Reads load their associations through entity graphs, so the numbers do not depend on the data;
+ * a change in them usually means a new N+1 query in the mapping or the fetch settings.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:query-count;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1")
+@ExtendWith(QueryCountExtension.class)
+@DisplayName("HotelService SQL statement counts")
+class HotelServiceQueryCountTest {
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Test
+    @ExpectedQueries(1)
+    @DisplayName("getHotelListGroupByParam - should group hotels with one query")
+    void getHotelListGroupByParam_ShouldExecuteOneQuery() {
+        assertThat(hotelService.getHotelListGroupByParam("city")).isNotEmpty();
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    @DisplayName("getHotelById - should execute one query when hotel does not exist")
+    void getHotelById_ShouldExecuteOneQuery_WhenHotelNotFound() {
+        assertThatThrownBy(() -> hotelService.getHotelById(999_999L))
+                .isInstanceOf(HotelNotFoundException.class);
+    }
+
+    @Test
+    @ExpectedQueries(0)
+    @DisplayName("searchHotels - should not query the database without search parameters")
+    void searchHotels_ShouldNotQuery_WhenNoParameters() {
+        assertThatThrownBy(() -> hotelService.searchHotels(" ", List.of(), null, null, null))
+                .isInstanceOf(MissingSearchParameterException.class);
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    @DisplayName("getHotelById - should load hotel with all associations in one query")
+    void getHotelById_ShouldExecuteOneQuery_WhenHotelExists(QueryCounter queries) {
+        // When
+        HotelDTO hotel = hotelService.getHotelById(1L);
+
+        // Then
+        assertThat(hotel.getBrand()).isNotNull();
+        assertThat(hotel.getAddress()).isNotNull();
+        assertThat(hotel.getContacts()).isNotNull();
+        assertThat(hotel.getArrivalTime()).isNotNull();
+        assertThat(hotel.getAmenities()).isNotEmpty();
+        assertThat(queries.rows()).isPositive();
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    @DisplayName("getAllHotelsShortInfo - should load every hotel with one query")
+    void getAllHotelsShortInfo_ShouldExecuteOneQuery() {
+        // When
+        List<HotelShortDTO> hotels = hotelService.getAllHotelsShortInfo();
+
+        // Then
+        assertThat(hotels).isNotEmpty();
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    @DisplayName("searchHotels - should search by name with one query")
+    void searchHotels_ShouldExecuteOneQuery_WhenSearchingByName() {
+        assertThat(hotelService.searchHotels("Hilton", null, null, null, null)).isNotEmpty();
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    @DisplayName("searchHotels - should search by brand with one query")
+    void searchHotels_ShouldExecuteOneQuery_WhenSearchingByBrand() {
+        assertThat(hotelService.searchHotels(null, List.of("Hilton"), null, null, null)).isNotEmpty();
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    @DisplayName("searchHotels - should search by several brands with one query")
+    void searchHotels_ShouldExecuteOneQuery_WhenSearchingBySeveralBrands() {
+        assertThat(hotelService.searchHotels(null, List.of("Hilton", "Marriott"), null, null, null)).isNotEmpty();
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    @DisplayName("searchHotels - should search by city with one query")
+    void searchHotels_ShouldExecuteOneQuery_WhenSearchingByCity() {
+        assertThat(hotelService.searchHotels(null, null, List.of("Minsk"), null, null)).isNotEmpty();
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    @DisplayName("searchHotels - should search by country with one query")
+    void searchHotels_ShouldExecuteOneQuery_WhenSearchingByCountry() {
+        assertThat(hotelService.searchHotels(null, null, null, List.of("Belarus", "Russia"), null)).isNotEmpty();
+    }
+
+    @Test
+    @ExpectedQueries(1)
+    @DisplayName("searchHotels - should search by amenity with one query")
+    void searchHotels_ShouldExecuteOneQuery_WhenSearchingByAmenity() {
+        assertThat(hotelService.searchHotels(null, null, null, null, List.of("Free WiFi"))).isNotEmpty();
+    }
+}
@@ -1,43 +1,72 @@
 package com.example.hotelproject.service;
 
+import com.example.hotelproject.dto.BulkAmenityAssignmentDTO;
+import com.example.hotelproject.dto.BulkAmenityAssignmentResultDTO;
+import com.example.hotelproject.dto.BulkHotelDeletionDTO;
+import com.example.hotelproject.dto.BulkHotelDeletionResultDTO;
 import com.example.hotelproject.dto.HotelDTO;
+import com.example.hotelproject.dto.HotelFilterDTO;
 import com.example.hotelproject.dto.HotelShortDTO;
 import com.example.hotelproject.entity.Address;
 import com.example.hotelproject.entity.Amenity;
+import com.example.hotelproject.entity.ArrivalTime;
 import com.example.hotelproject.entity.Brand;
 import com.example.hotelproject.entity.City;
 import com.example.hotelproject.entity.Contact;
 import com.example.hotelproject.entity.Country;
 import com.example.hotelproject.entity.Hotel;
 import com.example.hotelproject.entity.Street;
+import com.example.hotelproject.exception.HotelAlreadyExistsException;
 import com.example.hotelproject.exception.HotelNotFoundException;
+import com.example.hotelproject.exception.InvalidPatchException;
+import com.example.hotelproject.exception.MissingSearchParameterException;
 import com.example.hotelproject.mapper.HotelMapper;
+import com.example.hotelproject.repository.AddressRepository;
 import com.example.hotelproject.repository.AmenityRepository;
+import com.example.hotelproject.repository.ArrivalTimeRepository;
 import com.example.hotelproject.repository.BrandRepository;
 import com.example.hotelproject.repository.CityRepository;
+import com.example.hotelproject.repository.ContactRepository;
 import com.example.hotelproject.repository.CountryRepository;
+import com.example.hotelproject.repository.HotelCriteria;
 import com.example.hotelproject.repository.HotelRepository;
 import com.example.hotelproject.repository.StreetRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -65,9 +94,33 @@ class HotelServiceTest {
     @Mock
     private AmenityRepository amenityRepository;
 
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private ContactRepository contactRepository;
+
+    @Mock
+    private ArrivalTimeRepository arrivalTimeRepository;
+
     @Mock
     private HotelMapper hotelMapper;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ShardRouter shardRouter;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private HotelService hotelService;
 
@@ -79,6 +132,9 @@ class HotelServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(new SimpleTransactionStatus()));
+
         Brand brand = Brand.builder().id(1L).name("Hilton").build();
         Country country = Country.builder().id(1L).name("Belarus").build();
         City city = City.builder().id(1L).name("Minsk").country(country).build();
@@ -369,6 +425,55 @@ class HotelServiceTest {
         verify(hotelRepository, times(1)).save(hotel1);
     }
 
+    @Test
+    @DisplayName("addAmenities - should re-read hotel and retry merge after optimistic lock failure")
+    void addAmenities_ShouldRetryMerge_WhenHotelWasModifiedConcurrently() {
+        // Given
+        Long hotelId = 1L;
+        Amenity amenity = Amenity.builder().id(1L).name("Free WiFi").build();
+
+        hotel1.setAmenities(new ArrayList<>());
+
+        doThrow(new ObjectOptimisticLockingFailureException(Hotel.class, hotelId))
+                .doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0)
+                        .doInTransaction(new SimpleTransactionStatus()))
+                .when(transactionTemplate).execute(any());
+        when(hotelRepository.findById(hotelId)).thenReturn(Optional.of(hotel1));
+        when(amenityRepository.findByName("Free WiFi")).thenReturn(Optional.of(amenity));
+        when(hotelRepository.save(hotel1)).thenReturn(hotel1);
+        when(hotelMapper.toDTO(hotel1)).thenReturn(hotelDTO);
+
+        // When
+        HotelDTO result = hotelService.addAmenities(hotelId, List.of("Free WiFi"));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(hotel1.getAmenities()).containsExactly(amenity);
+        assertThat(meterRegistry.counter(HotelService.OPTIMISTIC_LOCK_RETRIES_METRIC, "operation", "addAmenities").count())
+                .isEqualTo(1.0);
+
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(hotelRepository, times(1)).save(hotel1);
+    }
+
+    @Test
+    @DisplayName("addAmenities - should give up after max attempts when conflicts persist")
+    void addAmenities_ShouldRethrow_WhenRetriesAreExhausted() {
+        // Given
+        doThrow(new ObjectOptimisticLockingFailureException(Hotel.class, 1L))
+                .when(transactionTemplate).execute(any());
+
+        // When & Then
+        assertThatThrownBy(() -> hotelService.addAmenities(1L, List.of("Free WiFi")))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        verify(transactionTemplate, times(10)).execute(any());
+        assertThat(meterRegistry.counter(HotelService.OPTIMISTIC_LOCK_RETRIES_METRIC, "operation", "addAmenities").count())
+                .isEqualTo(9.0);
+        assertThat(meterRegistry.counter(HotelService.OPTIMISTIC_LOCK_EXHAUSTED_METRIC, "operation", "addAmenities").count())
+                .isEqualTo(1.0);
+    }
+
     @Test
     @DisplayName("createHotel - should create hotel successfully with all data")
     void createHotel_ShouldCreateHotelSuccessfully_WithAllData() {
@@ -583,4 +688,247 @@ class HotelServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Invalid parameter: invalid");
     }
+
+    @Test
+    @DisplayName("assignAmenitiesInBulk - should create missing amenities and link them to given hotels")
+    void assignAmenitiesInBulk_ShouldCreateMissingAmenities_AndLinkHotels() {
+        // Given
+        BulkAmenityAssignmentDTO request = BulkAmenityAssignmentDTO.builder()
+                .amenities(Arrays.asList("Free WiFi", "EV charging", "Free WiFi"))
+                .hotelIds(Arrays.asList(1L, 2L))
+                .build();
+        Amenity wifi = Amenity.builder().id(1L).name("Free WiFi").build();
+        Amenity charging = Amenity.builder().id(2L).name("EV charging").build();
+
+        when(amenityRepository.findByNameIn(List.of("Free WiFi", "EV charging"))).thenReturn(List.of(wifi));
+        when(amenityRepository.saveAll(anyList())).thenReturn(List.of(charging));
+        when(hotelRepository.incrementVersions(List.of(1L, 2L))).thenReturn(2);
+        when(hotelRepository.linkAmenities(List.of(1L, 2L), List.of(1L, 2L))).thenReturn(3);
+
+        // When
+        BulkAmenityAssignmentResultDTO result = hotelService.assignAmenitiesInBulk(request);
+
+        // Then
+        assertThat(result.getHotelsMatched()).isEqualTo(2);
+        assertThat(result.getAmenitiesCreated()).isEqualTo(1);
+        assertThat(result.getAssignmentsCreated()).isEqualTo(3);
+        verify(hotelRepository, never()).findHotelIds(any());
+        verify(hotelRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("assignAmenitiesInBulk - should resolve hotels by filter and process them in batches")
+    void assignAmenitiesInBulk_ShouldResolveHotelsByFilter_InBatches() {
+        // Given
+        BulkAmenityAssignmentDTO request = BulkAmenityAssignmentDTO.builder()
+                .amenities(List.of("Free WiFi"))
+                .filter(HotelFilterDTO.builder().city(List.of("Minsk", "")).build())
+                .build();
+        List<Long> hotelIds = LongStream.rangeClosed(1, HotelService.BULK_BATCH_SIZE + 5).boxed().toList();
+        Amenity wifi = Amenity.builder().id(1L).name("Free WiFi").build();
+
+        when(hotelRepository.findHotelIds(new HotelCriteria(null, null, List.of("Minsk"), null, null))).thenReturn(hotelIds);
+        when(amenityRepository.findByNameIn(List.of("Free WiFi"))).thenReturn(List.of(wifi));
+        when(amenityRepository.saveAll(anyList())).thenReturn(List.of());
+        when(hotelRepository.incrementVersions(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        when(hotelRepository.linkAmenities(anyList(), anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // When
+        BulkAmenityAssignmentResultDTO result = hotelService.assignAmenitiesInBulk(request);
+
+        // Then
+        assertThat(result.getHotelsMatched()).isEqualTo(hotelIds.size());
+        assertThat(result.getAmenitiesCreated()).isZero();
+        assertThat(result.getAssignmentsCreated()).isEqualTo(hotelIds.size());
+        verify(hotelRepository, times(2)).linkAmenities(anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("assignAmenitiesInBulk - should throw exception when both hotelIds and filter are given")
+    void assignAmenitiesInBulk_ShouldThrowException_WhenBothIdsAndFilterGiven() {
+        // Given
+        BulkAmenityAssignmentDTO request = BulkAmenityAssignmentDTO.builder()
+                .amenities(List.of("Free WiFi"))
+                .hotelIds(List.of(1L))
+                .filter(HotelFilterDTO.builder().name("Hilton").build())
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> hotelService.assignAmenitiesInBulk(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Either hotelIds or filter must be specified, not both");
+        verify(hotelRepository, never()).linkAmenities(anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("assignAmenitiesInBulk - should throw exception when filter is empty")
+    void assignAmenitiesInBulk_ShouldThrowException_WhenFilterIsEmpty() {
+        // Given
+        BulkAmenityAssignmentDTO request = BulkAmenityAssignmentDTO.builder()
+                .amenities(List.of("Free WiFi"))
+                .filter(HotelFilterDTO.builder().name(" ").build())
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> hotelService.assignAmenitiesInBulk(request))
+                .isInstanceOf(MissingSearchParameterException.class);
+        verify(hotelRepository, never()).findHotelIds(any());
+    }
+
+    @Test
+    @DisplayName("deleteHotel - should delete hotel when exists")
+    void deleteHotel_ShouldDeleteHotel_WhenExists() {
+        // Given
+        when(hotelRepository.deleteHotels(List.of(1L))).thenReturn(1);
+
+        // When
+        hotelService.deleteHotel(1L);
+
+        // Then
+        verify(hotelRepository, times(1)).deleteHotels(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("deleteHotel - should throw exception when hotel not found")
+    void deleteHotel_ShouldThrowException_WhenHotelNotFound() {
+        // Given
+        when(hotelRepository.deleteHotels(List.of(999L))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> hotelService.deleteHotel(999L))
+                .isInstanceOf(HotelNotFoundException.class)
+                .hasMessage("Hotel not found with id: 999");
+    }
+
+    @Test
+    @DisplayName("deleteHotelsInBulk - should delete hotels matched by filter in batches")
+    void deleteHotelsInBulk_ShouldDeleteHotelsByFilter_InBatches() {
+        // Given
+        BulkHotelDeletionDTO request = BulkHotelDeletionDTO.builder()
+                .filter(HotelFilterDTO.builder().brand(List.of("Hilton")).build())
+                .build();
+        List<Long> hotelIds = LongStream.rangeClosed(1, HotelService.BULK_BATCH_SIZE * 2L).boxed().toList();
+
+        when(hotelRepository.findHotelIds(new HotelCriteria(null, List.of("Hilton"), null, null, null))).thenReturn(hotelIds);
+        when(hotelRepository.deleteHotels(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // When
+        BulkHotelDeletionResultDTO result = hotelService.deleteHotelsInBulk(request);
+
+        // Then
+        assertThat(result.getHotelsMatched()).isEqualTo(hotelIds.size());
+        assertThat(result.getHotelsDeleted()).isEqualTo(hotelIds.size());
+        verify(hotelRepository, times(2)).deleteHotels(anyList());
+        verify(hotelRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("patchHotel - should update contact without loading hotel")
+    void patchHotel_ShouldUpdateContact_WithoutLoadingHotel() throws Exception {
+        // Given
+        Contact contact = Contact.builder()
+                .id(1L)
+                .phone("+375 17 309-80-00")
+                .email("info@doubletree.com")
+                .build();
+        JsonNode patch = objectMapper.readTree("{\"contacts\": {\"phone\": \"+375 17 309-80-01\"}}");
+
+        when(hotelRepository.existsById(1L)).thenReturn(true);
+        when(contactRepository.findById(1L)).thenReturn(Optional.of(contact));
+
+        // When
+        hotelService.patchHotel(1L, patch);
+
+        // Then
+        assertThat(contact.getPhone()).isEqualTo("+375 17 309-80-01");
+        assertThat(contact.getEmail()).isEqualTo("info@doubletree.com");
+        verify(hotelRepository, never()).findById(any());
+        verify(addressRepository, never()).findById(any());
+        verify(arrivalTimeRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("patchHotel - should update hotel fields and remove description on null")
+    void patchHotel_ShouldUpdateHotelFields() throws Exception {
+        // Given
+        JsonNode patch = objectMapper.readTree("{\"name\": \"DoubleTree Minsk\", \"description\": null}");
+
+        when(hotelRepository.existsById(1L)).thenReturn(true);
+        when(hotelRepository.existsByNameAndIdNot("DoubleTree Minsk", 1L)).thenReturn(false);
+
+        // When
+        hotelService.patchHotel(1L, patch);
+
+        // Then
+        Map<String, Object> changes = new HashMap<>();
+        changes.put("name", "DoubleTree Minsk");
+        changes.put("description", null);
+        verify(hotelRepository, times(1)).updateHotelFields(1L, changes);
+        verify(hotelRepository, never()).findById(any());
+        verify(hotelRepository, never()).replaceAmenities(any(), any());
+        verify(brandRepository, never()).findByName(anyString());
+        verify(contactRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("patchHotel - should throw exception when new name belongs to another hotel")
+    void patchHotel_ShouldThrowException_WhenNameTaken() throws Exception {
+        // Given
+        JsonNode patch = objectMapper.readTree("{\"name\": \"Hampton by Hilton Minsk\"}");
+
+        when(hotelRepository.existsById(1L)).thenReturn(true);
+        when(hotelRepository.existsByNameAndIdNot("Hampton by Hilton Minsk", 1L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> hotelService.patchHotel(1L, patch))
+                .isInstanceOf(HotelAlreadyExistsException.class);
+        verify(hotelRepository, never()).updateHotelFields(any(), any());
+    }
+
+    @Test
+    @DisplayName("patchHotel - should delete arrival time when patched with null")
+    void patchHotel_ShouldDeleteArrivalTime_WhenNull() throws Exception {
+        // Given
+        ArrivalTime arrivalTime = ArrivalTime.builder().id(1L).checkIn("14:00").checkOut("12:00").build();
+        JsonNode patch = objectMapper.readTree("{\"arrivalTime\": null}");
+
+        when(hotelRepository.existsById(1L)).thenReturn(true);
+        when(arrivalTimeRepository.findById(1L)).thenReturn(Optional.of(arrivalTime));
+
+        // When
+        hotelService.patchHotel(1L, patch);
+
+        // Then
+        verify(arrivalTimeRepository, times(1)).delete(arrivalTime);
+    }
+
+    @Test
+    @DisplayName("patchHotel - should reject invalid values and id before touching the database")
+    void patchHotel_ShouldThrowException_WhenPatchIsInvalid() throws Exception {
+        // Given
+        JsonNode patch = objectMapper.readTree("{\"id\": 5, \"contacts\": {\"email\": \"not-an-email\"}}");
+
+        // When & Then
+        assertThatThrownBy(() -> hotelService.patchHotel(1L, patch))
+                .isInstanceOf(InvalidPatchException.class)
+                .satisfies(ex -> assertThat(((InvalidPatchException) ex).getFieldErrors())
+                        .containsEntry("id", "Field cannot be changed")
+                        .containsEntry("contacts.email", "Email must be valid"));
+        verify(hotelRepository, never()).existsById(any());
+        verify(contactRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("patchHotel - should throw exception when hotel not found")
+    void patchHotel_ShouldThrowException_WhenHotelNotFound() throws Exception {
+        // Given
+        JsonNode patch = objectMapper.readTree("{\"contacts\": {\"phone\": \"+375 17 309-80-01\"}}");
+
+        when(hotelRepository.existsById(999L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> hotelService.patchHotel(999L, patch))
+                .isInstanceOf(HotelNotFoundException.class)
+                .hasMessage("Hotel not found with id: 999");
+    }
 }
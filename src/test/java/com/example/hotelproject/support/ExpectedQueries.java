@@ -0,0 +1,17 @@
+package com.example.hotelproject.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Exact number of SQL statements the annotated test may execute, checked by {@link QueryCountExtension}
+ * after the test method.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExpectedQueries {
+
+    int value();
+}
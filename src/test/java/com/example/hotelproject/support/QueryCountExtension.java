@@ -0,0 +1,51 @@
+package com.example.hotelproject.support;
+
+import com.example.hotelproject.config.QueryCounter;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements a test executes through the application data source (see QueryCountingDataSource).
+ * A fresh {@link QueryCounter} is started on the test thread before each test; it can be injected as a
+ * test method parameter, and {@link ExpectedQueries} on the method asserts the exact number of statements.
+ * Only statements executed after the test method started are counted, context startup is not.
+ */
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryCountExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(QueryCounter.class, QueryCounter.start());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        QueryCounter counter = context.getStore(NAMESPACE).remove(QueryCounter.class, QueryCounter.class);
+        QueryCounter.clear();
+        // Проверяем только успешно завершившийся тест, иначе ошибка теста потеряется
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        context.getTestMethod()
+                .map(method -> method.getAnnotation(ExpectedQueries.class))
+                .ifPresent(expected -> assertThat(counter.statements())
+                        .as("SQL statements executed by %s", context.getDisplayName())
+                        .isEqualTo(expected.value()));
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == QueryCounter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).get(QueryCounter.class, QueryCounter.class);
+    }
+}